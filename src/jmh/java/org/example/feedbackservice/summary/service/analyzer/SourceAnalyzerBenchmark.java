@@ -0,0 +1,193 @@
+package org.example.feedbackservice.summary.service.analyzer;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 소스 분석기 처리량 비교 (정규식 분석기 vs 단일 패스 스캐너)
+ * - 실행: ./gradlew jmh
+ * - 결과의 bytes 보조 지표가 초당 처리 바이트 수 (÷ 1,000,000 = MB/s)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SourceAnalyzerBenchmark {
+
+    @Param({"64"})
+    private int sizeKb;
+
+    private String javaSource;
+    private String pythonSource;
+    private String jsSource;
+    private long javaBytes;
+    private long pythonBytes;
+    private long jsBytes;
+
+    private final JavaFileAnalyzer javaAnalyzer = new JavaFileAnalyzer();
+    private final PythonFileAnalyzer pythonAnalyzer = new PythonFileAnalyzer();
+    private final JsFileAnalyzer jsAnalyzer = new JsFileAnalyzer();
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Bytes {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        javaSource = repeat(JAVA_UNIT);
+        pythonSource = repeat(PYTHON_UNIT);
+        jsSource = repeat(JS_UNIT);
+        javaBytes = utf8Length(javaSource);
+        pythonBytes = utf8Length(pythonSource);
+        jsBytes = utf8Length(jsSource);
+    }
+
+    @Benchmark
+    public String regexJava(Bytes counter) {
+        counter.bytes += javaBytes;
+        return LegacyRegexAnalyzers.analyzeJava(javaSource);
+    }
+
+    @Benchmark
+    public String scannerJava(Bytes counter) {
+        counter.bytes += javaBytes;
+        return javaAnalyzer.analyze(javaSource);
+    }
+
+    @Benchmark
+    public String regexPython(Bytes counter) {
+        counter.bytes += pythonBytes;
+        return LegacyRegexAnalyzers.analyzePython(pythonSource);
+    }
+
+    @Benchmark
+    public String scannerPython(Bytes counter) {
+        counter.bytes += pythonBytes;
+        return pythonAnalyzer.analyze(pythonSource);
+    }
+
+    @Benchmark
+    public String regexJs(Bytes counter) {
+        counter.bytes += jsBytes;
+        return LegacyRegexAnalyzers.analyzeJs(jsSource);
+    }
+
+    @Benchmark
+    public String scannerJs(Bytes counter) {
+        counter.bytes += jsBytes;
+        return jsAnalyzer.analyze(jsSource);
+    }
+
+    private String repeat(String unit) {
+        StringBuilder source = new StringBuilder();
+        for (int i = 0; source.length() < sizeKb * 1024; i++) {
+            source.append(unit.replace("$N", Integer.toString(i)));
+        }
+        return source.toString();
+    }
+
+    private static long utf8Length(String source) {
+        return source.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static final String JAVA_UNIT = """
+            import java.util.List;
+            import java.util.Map;
+
+            /**
+             * Service $N - handles "requests" with a class-like comment: class Fake
+             */
+            public class Service$N extends BaseService implements Runnable {
+                private static final String NAME = "class NotAType { void fake() {} }";
+                private final Map<String, List<Integer>> cache = new HashMap<>();
+
+                @Override
+                public void run() {
+                    if (cache.isEmpty()) {
+                        process(List.of(1, 2, 3), item -> item * 2);
+                    }
+                }
+
+                protected <T> List<T> process(List<T> items, Function<T, T> mapper) {
+                    return items.stream().map(mapper).toList(); // map(each)
+                }
+
+                private int count$N(String key) {
+                    return cache.getOrDefault(key, List.of()).size();
+                }
+
+                enum State { READY, RUNNING }
+            }
+
+            """;
+
+    private static final String PYTHON_UNIT = """
+            import os
+            from typing import List
+
+            class Handler$N(Base):
+                \"\"\"Handles things. def fake(): pass\"\"\"
+
+                def __init__(self, name):
+                    self.name = name  # class Comment
+
+                def handle(self, items: List[str]) -> int:
+                    return len([item for item in items if item])
+
+                async def _fetch(self, url):
+                    return await self.client.get(url)
+
+            def helper_$N(value):
+                return value * 2
+
+            """;
+
+    private static final String JS_UNIT = """
+            import { useState } from 'react';
+            const api = require('./api');
+
+            export class Store$N extends Base {
+              state = { items: [] };
+              handleClick = (event) => { this.update(event); };
+
+              constructor(props) {
+                super(props);
+              }
+
+              async load(id) {
+                const url = `/items/${id}?q=${encodeURIComponent("class Fake")}`;
+                return api.get(url).then(res => res.data);
+              }
+            }
+
+            export function render$N(items) {
+              return items.filter(item => /^function \\w+/.test(item.name)).length;
+            }
+
+            const format$N = (value) => String(value).trim();
+
+            """;
+}
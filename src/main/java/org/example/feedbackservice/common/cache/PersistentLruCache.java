@@ -0,0 +1,261 @@
+package org.example.feedbackservice.common.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.java.Log;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * 크기 제한 LRU 캐시 (선택적 디스크 영속화)
+ * - 메모리: 접근 순서 LinkedHashMap, 항목 가중치(바이트) 합이 상한을 넘으면 가장 오래 사용하지 않은 항목부터 제거
+ * - 디스크: directory 지정 시 항목별 JSON 파일로 기록(전용 단일 스레드에서 순서대로), 재시작 시 수정 시각 순으로 다시 적재
+ * - 메모리에 없는 키는 디스크 파일을 확인해 적재 (read-through) - directory를 공유하는 다른 노드가 기록한 항목도 사용
+ * - 메모리에서 제거된 항목의 파일은 이 노드가 기록한 것만 삭제 (다른 노드의 파일은 그대로 둠)
+ *   기동 시에는 디렉토리 전체를 수정 시각 순으로 적재하고, 상한을 넘는 가장 오래된 파일을 정리
+ * - 지표: cache.gets{result=hit|miss}, cache.puts, cache.evictions, cache.size (tag: cache=name)
+ */
+@Log
+public class PersistentLruCache<V> {
+
+    private static final String FILE_SUFFIX = ".json";
+
+    private final String name;
+    private final long maxWeight;
+    private final Path directory;
+    private final Class<V> valueType;
+    private final ToLongFunction<V> weigher;
+    private final ObjectMapper objectMapper;
+    private final Scheduler diskScheduler;
+
+    private final LinkedHashMap<String, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+    // 이 노드가 기록한 키 (entries 잠금으로 보호) - 제거 시 이 키의 파일만 삭제
+    private final Set<String> ownedKeys = new HashSet<>();
+    private long weight;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter puts;
+    private final Counter evictions;
+
+    public PersistentLruCache(String name, DataSize maxSize, String directory, Class<V> valueType,
+                              ToLongFunction<V> weigher, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.maxWeight = maxSize.toBytes();
+        this.directory = StringUtils.hasText(directory) ? Path.of(directory) : null;
+        this.valueType = valueType;
+        this.weigher = weigher;
+        this.objectMapper = objectMapper;
+        this.diskScheduler = this.directory != null ? Schedulers.newSingle("cache-" + name, true) : null;
+
+        this.hits = Counter.builder("cache.gets").tag("cache", name).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", name).tag("result", "miss").register(meterRegistry);
+        this.puts = Counter.builder("cache.puts").tag("cache", name).register(meterRegistry);
+        this.evictions = Counter.builder("cache.evictions").tag("cache", name).register(meterRegistry);
+        Gauge.builder("cache.size", this, PersistentLruCache::size).tag("cache", name).register(meterRegistry);
+
+        loadFromDisk();
+    }
+
+    public Optional<V> get(String key) {
+        V value;
+        synchronized (entries) {
+            value = entries.get(key);
+        }
+        if (value == null && directory != null) {
+            value = readThrough(key);
+        }
+        (value != null ? hits : misses).increment();
+        return Optional.ofNullable(value);
+    }
+
+    public void put(String key, V value) {
+        long valueWeight = weigher.applyAsLong(value);
+        if (valueWeight > maxWeight) {
+            return;
+        }
+        List<String> evicted;
+        synchronized (entries) {
+            V previous = entries.put(key, value);
+            if (previous != null) {
+                weight -= weigher.applyAsLong(previous);
+            }
+            weight += valueWeight;
+            ownedKeys.add(key);
+            evicted = ownedOnly(evictOverflow());
+        }
+        puts.increment();
+        if (diskScheduler != null) {
+            diskScheduler.schedule(() -> {
+                writeToDisk(key, value);
+                evicted.forEach(this::deleteFromDisk);
+            });
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    // 디스크에서 키 조회 후 메모리에 적재 - 다른 노드가 기록한 항목이므로 소유하지 않음
+    private V readThrough(String key) {
+        Path file = fileOf(key);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        Optional<V> loaded = readEntry(file)
+                .filter(entry -> entry.getKey().equals(key))
+                .map(Map.Entry::getValue);
+        if (loaded.isEmpty()) {
+            return null;
+        }
+        V value = loaded.get();
+        long valueWeight = weigher.applyAsLong(value);
+        if (valueWeight > maxWeight) {
+            return value;
+        }
+        List<String> evicted;
+        synchronized (entries) {
+            V current = entries.get(key);
+            if (current != null) {
+                return current;
+            }
+            entries.put(key, value);
+            weight += valueWeight;
+            evicted = ownedOnly(evictOverflow());
+        }
+        if (!evicted.isEmpty()) {
+            diskScheduler.schedule(() -> evicted.forEach(this::deleteFromDisk));
+        }
+        return value;
+    }
+
+    // 제거된 키 중 이 노드가 기록한 키만 (entries 잠금 안에서 호출)
+    private List<String> ownedOnly(List<String> evicted) {
+        evicted.removeIf(key -> !ownedKeys.remove(key));
+        return evicted;
+    }
+
+    // 상한 초과분 제거 (가장 오래 사용하지 않은 항목부터)
+    private List<String> evictOverflow() {
+        List<String> evicted = new ArrayList<>();
+        Iterator<Map.Entry<String, V>> iterator = entries.entrySet().iterator();
+        while (weight > maxWeight && iterator.hasNext()) {
+            Map.Entry<String, V> eldest = iterator.next();
+            weight -= weigher.applyAsLong(eldest.getValue());
+            evicted.add(eldest.getKey());
+            iterator.remove();
+            evictions.increment();
+        }
+        return evicted;
+    }
+
+    private void loadFromDisk() {
+        if (directory == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            List<Path> files;
+            try (Stream<Path> stream = Files.list(directory)) {
+                files = stream
+                        .filter(file -> file.getFileName().toString().endsWith(FILE_SUFFIX))
+                        .sorted(Comparator.comparingLong(this::lastModified))
+                        .toList();
+            }
+            List<String> evicted = new ArrayList<>();
+            synchronized (entries) {
+                for (Path file : files) {
+                    readEntry(file).ifPresent(entry -> {
+                        entries.put(entry.getKey(), entry.getValue());
+                        weight += weigher.applyAsLong(entry.getValue());
+                    });
+                }
+                evicted.addAll(evictOverflow());
+            }
+            evicted.forEach(this::deleteFromDisk);
+            log.info("캐시 적재 [" + name + "]: " + size() + "건");
+        } catch (IOException e) {
+            log.warning("캐시 디렉토리 적재 실패 [" + name + "]: " + e.getMessage());
+        }
+    }
+
+    private Optional<Map.Entry<String, V>> readEntry(Path file) {
+        try {
+            JsonNode node = objectMapper.readTree(file.toFile());
+            String key = node.get("key").asText();
+            V value = objectMapper.treeToValue(node.get("value"), valueType);
+            return Optional.of(Map.entry(key, value));
+        } catch (Exception e) {
+            log.warning("캐시 파일 읽기 실패: " + file + " - " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void writeToDisk(String key, V value) {
+        if (directory == null) {
+            return;
+        }
+        try {
+            ObjectNode node = objectMapper.createObjectNode();
+            node.put("key", key);
+            node.set("value", objectMapper.valueToTree(value));
+            // 임시 파일에 쓴 뒤 교체 (부분 기록된 파일 방지)
+            Path target = fileOf(key);
+            Path temp = Files.createTempFile(directory, "entry", ".tmp");
+            objectMapper.writeValue(temp.toFile(), node);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warning("캐시 파일 기록 실패 [" + name + "]: " + e.getMessage());
+        }
+    }
+
+    private void deleteFromDisk(String key) {
+        if (directory == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(fileOf(key));
+        } catch (IOException e) {
+            log.warning("캐시 파일 삭제 실패 [" + name + "]: " + e.getMessage());
+        }
+    }
+
+    private Path fileOf(String key) {
+        return directory.resolve(DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)) + FILE_SUFFIX);
+    }
+
+    private long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.feedbackservice.common.exception;
+
+public class FileDownloadException extends RuntimeException {
+    public FileDownloadException(String message) {
+        super(message);
+    }
+}
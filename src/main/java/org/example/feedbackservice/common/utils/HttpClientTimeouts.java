@@ -0,0 +1,30 @@
+package org.example.feedbackservice.common.utils;
+
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import reactor.netty.http.client.HttpClient;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 풀링 HttpClient의 요청 단위 시간 상한
+ * - 응답 헤더까지: HttpClient.responseTimeout
+ * - 본문 수신: 응답을 받은 뒤 ReadTimeoutHandler를 추가하고 응답이 끝나면 제거
+ *   (doOnConnected로 추가하면 커넥션에 계속 남아 풀에서 쉬는 커넥션까지 읽기 시간 초과로 닫힘)
+ *   오류 / 취소로 끝난 경우는 커넥션 반환 시 Reactor Netty가 제거
+ */
+public final class HttpClientTimeouts {
+
+    private static final String BODY_READ_TIMEOUT = "bodyReadTimeout";
+
+    private HttpClientTimeouts() {
+    }
+
+    public static HttpClient apply(HttpClient httpClient, Duration responseTimeout, Duration readTimeout) {
+        return httpClient
+                .responseTimeout(responseTimeout)
+                .doOnResponse((response, conn) -> conn.addHandlerLast(BODY_READ_TIMEOUT,
+                        new ReadTimeoutHandler(readTimeout.toMillis(), TimeUnit.MILLISECONDS)))
+                .doAfterResponseSuccess((response, conn) -> conn.removeHandler(BODY_READ_TIMEOUT));
+    }
+}
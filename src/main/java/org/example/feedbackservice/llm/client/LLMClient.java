@@ -1,6 +1,13 @@
 package org.example.feedbackservice.llm.client;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.java.Log;
+import org.example.feedbackservice.common.utils.HttpClientTimeouts;
 import org.example.feedbackservice.llm.prompt.FeedbackPromptBuilder;
 import org.example.feedbackservice.llm.model.dto.GeminiRequest;
 import org.example.feedbackservice.llm.model.dto.GeminiResponse;
@@ -8,19 +15,39 @@ import org.example.feedbackservice.llm.prompt.SummaryPromptBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * LLM(Gemini) API 공용 클라이언트
+ * - 애플리케이션 전체에서 하나의 WebClient / 커넥션 풀을 공유 (요청마다 클라이언트를 만들지 않음, keep-alive로 TLS 재사용)
+ * - 연결 / 응답 / 읽기 시간 상한 - 응답이 없는 요청이 파이프라인을 붙잡지 않음
+ * - 응답 압축(gzip) 요청
+ * - 커넥션 풀 지표: reactor.netty.connection.provider.*{name=llm}
+ * - 요청 지연 지표: llm.requests{endpoint=generateContent|countTokens, type, outcome} (히스토그램)
+ */
 @Component
 @RequiredArgsConstructor
+@Log
 public class LLMClient {
 
+    private static final String POOL_NAME = "llm";
+    private static final String GENERATE_CONTENT = "generateContent";
+    private static final String COUNT_TOKENS = "countTokens";
+
     private final FeedbackPromptBuilder feedbackPromptBuilder;
     private final SummaryPromptBuilder summaryPromptBuilder;
+    private final WebClient.Builder webClientBuilder;
+    private final MeterRegistry meterRegistry;
 
     @Value("${llm.api.key}")
     private String apiKey;
@@ -28,11 +55,65 @@ public class LLMClient {
     @Value("${llm.api.url}")
     private String apiUrl;
 
-    private WebClient createWebClient() {
-        return WebClient.builder()
+    @Value("${llm.client.max-connections:20}")
+    private int maxConnections;
+
+    @Value("${llm.client.pending-acquire-timeout:10s}")
+    private Duration pendingAcquireTimeout;
+
+    @Value("${llm.client.max-idle-time:30s}")
+    private Duration maxIdleTime;
+
+    @Value("${llm.client.max-life-time:5m}")
+    private Duration maxLifeTime;
+
+    @Value("${llm.client.connect-timeout:5s}")
+    private Duration connectTimeout;
+
+    // 생성 요청은 응답 헤더까지 오래 걸릴 수 있음
+    @Value("${llm.client.response-timeout:90s}")
+    private Duration responseTimeout;
+
+    @Value("${llm.client.read-timeout:60s}")
+    private Duration readTimeout;
+
+    private ConnectionProvider connectionProvider;
+    private WebClient webClient;
+
+    @PostConstruct
+    void init() {
+        connectionProvider = ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(maxIdleTime)
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClientTimeouts.apply(HttpClient.create(connectionProvider)
+                        .keepAlive(true)
+                        .compress(true)
+                        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                        .option(ChannelOption.SO_KEEPALIVE, true),
+                responseTimeout, readTimeout);
+
+        // HTTP/2는 TLS(ALPN) 위에서만 협상 - 로컬 스텁 서버(http) 사용 시 HTTP/1.1
+        httpClient = apiUrl.startsWith("https")
+                ? httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure()
+                : httpClient.protocol(HttpProtocol.HTTP11);
+
+        webClient = webClientBuilder
                 .baseUrl(apiUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .build();
+        log.info("LLM 클라이언트 초기화: maxConnections=" + maxConnections);
+    }
+
+    @PreDestroy
+    void destroy() {
+        connectionProvider.dispose();
     }
 
     // 토큰 수 확인
@@ -42,44 +123,55 @@ public class LLMClient {
         content.put("parts", new Object[]{Map.of("text", text)});
         requestBody.put("contents", new Object[]{content});
 
-        return createWebClient()
+        return timed(COUNT_TOKENS, COUNT_TOKENS, webClient
                 .post()
-                .uri(":countTokens?key=%s", apiKey)
+                .uri(":countTokens?key={key}", apiKey)
                 .bodyValue(requestBody)
                 .retrieve()
                 .bodyToMono(Map.class)
-                .map(response -> (Integer) ((Map<?, ?>) response.get("usage")).get("totalTokens"))
-                .onErrorResume(e -> {
-                    System.err.println("토큰 수 계산 중 오류 발생: " + e.getMessage());
-                    return Mono.error(e);
-                });
+                .map(response -> (Integer) ((Map<?, ?>) response.get("usage")).get("totalTokens")))
+                .doOnError(e -> log.warning("토큰 수 계산 중 오류 발생: " + e.getMessage()));
     }
 
     // LLM 피드백 요청
     public Mono<String> feedback(String content, String type) {
         GeminiRequest feedbackRequest = feedbackPromptBuilder.build(content, type);
-        return createWebClient()
-                .post()
-//                .uri("?key=%s".formatted(apiKey))
-                .uri(":generateContent?key=%s".formatted(apiKey))
-                .bodyValue(feedbackRequest)
-                .retrieve()
-                .bodyToMono(GeminiResponse.class)
-                .map(response -> response.candidates().get(0).content().parts().get(0).text());
+        return timed(GENERATE_CONTENT, "feedback." + type, generateContent(feedbackRequest));
     }
 
     // LLM 요약 요청
     public Mono<String> summarize(String content, String type) {
         GeminiRequest summaryRequest = summaryPromptBuilder.build(content, type);
-        return createWebClient()
+        return timed(GENERATE_CONTENT, "summary." + type, generateContent(summaryRequest));
+    }
+
+    private Mono<String> generateContent(GeminiRequest request) {
+        return webClient
                 .post()
-//                .uri("?key=%s".formatted(apiKey))
-                .uri(":generateContent?key=%s".formatted(apiKey))
-                .bodyValue(summaryRequest)
+                .uri(":generateContent?key={key}", apiKey)
+                .bodyValue(request)
                 .retrieve()
                 .bodyToMono(GeminiResponse.class)
                 .map(response -> response.candidates().get(0).content().parts().get(0).text());
     }
 
+    // 구독 시점부터 완료 / 오류 / 취소까지의 지연 기록
+    private <T> Mono<T> timed(String endpoint, String type, Mono<T> request) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return request
+                    .doOnSuccess(value -> sample.stop(timer(endpoint, type, "success")))
+                    .doOnError(e -> sample.stop(timer(endpoint, type, "error")))
+                    .doOnCancel(() -> sample.stop(timer(endpoint, type, "cancelled")));
+        });
+    }
 
-}
\ No newline at end of file
+    private Timer timer(String endpoint, String type, String outcome) {
+        return Timer.builder("llm.requests")
+                .tag("endpoint", endpoint)
+                .tag("type", type)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
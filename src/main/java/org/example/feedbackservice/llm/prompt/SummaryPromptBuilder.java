@@ -53,6 +53,25 @@ public class SummaryPromptBuilder implements PromptBuilder {
                     
                     문서 내용: %s
                     """.formatted(content);
+            case "fileChunk" -> """
+                    다음은 개발자가 포트폴리오로 제출한 긴 문서의 일부분입니다. 이후 다른 부분의 요약과 합쳐 전체 문서를 요약할 예정입니다.
+                    
+                    [요약 항목]
+                    - 프로젝트 목적 / 주제, 기술 스택, 주요 컴포넌트와 구조, 아키텍처 / 설계 특징, 개발 진행 상황, 기타 특이사항 중 이 부분에 나타난 내용
+                    
+                    [요청 형식]
+                    이 부분에 있는 사실만 간결한 항목으로 정리. 없는 항목은 생략. 고유명사, 기술 이름, 수치는 그대로 유지. 한글평문으로 작성. 미사여구 제외
+                    
+                    문서 일부: %s
+                    """.formatted(content);
+            case "fileReduce" -> """
+                    다음은 포트폴리오 문서의 여러 부분을 각각 요약한 내용입니다. 이후 다른 요약과 다시 합쳐질 수 있습니다.
+                    
+                    [요청 형식]
+                    중복을 제거하고 같은 주제끼리 묶어 하나의 항목형 요약으로 통합. 고유명사, 기술 이름, 수치는 그대로 유지. 한글평문으로 작성. 미사여구 제외
+                    
+                    부분 요약: %s
+                    """.formatted(content);
             case "combined" -> """
                     다음은 사용자의 포트폴리오 설명과 GitHub 프로젝트의 요약 내용, 포트폴리오 관련 첨부 파일의 요약 내용입니다. 이 정보를 기반으로 아래 항목을 기준으로 최종 요약을 작성해주세요.
                     
@@ -3,9 +3,12 @@ package org.example.feedbackservice.llm.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.java.Log;
 import org.example.feedbackservice.llm.client.LLMClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -13,8 +16,21 @@ import java.util.List;
 @Log
 public class LLMSummaryService {
 
+    public static final String GITHUB_SUMMARY_FAILED = "GitHub 요약 실패";
+    public static final String README_SUMMARY_FAILED = "README 요약 실패";
+
     private final LLMClient llmClient;
 
+    // 파일 요약 map-reduce - 청크 크기(문자) / 동시 요청 수 / 한 번에 합치는 요약 수
+    @Value("${llm.summary.chunk-size:12000}")
+    private int chunkSize;
+
+    @Value("${llm.summary.concurrency:4}")
+    private int concurrency;
+
+    @Value("${llm.summary.reduce-fan-in:5}")
+    private int reduceFanIn;
+
 /*    public Mono<String> summarizeGithubDTO(GitHubSummaryDTO dto) {
         String githubText = """
                 [디렉토리 구조] %s
@@ -35,7 +51,7 @@ public class LLMSummaryService {
         return llmClient.summarize(readme, "readme")
                 .onErrorResume(e -> {
                     log.severe("README 요약 실패: " + e.getMessage());
-                    return Mono.just("README 요약 실패");
+                    return Mono.just(README_SUMMARY_FAILED);
                 });
     }
 
@@ -47,21 +63,69 @@ public class LLMSummaryService {
         return llmClient.summarize(combined, "github")
                 .onErrorResume(e -> {
                     log.severe("GitHub 요약 실패: " + e.getMessage());
-                    return Mono.just("GitHub 요약 실패");
+                    return Mono.just(GITHUB_SUMMARY_FAILED);
                 });
     }
 
+    /**
+     * 파일 요약
+     * - 전체가 청크 크기 이하면 한 번에 요약
+     * - 길면 페이지 / 문단 경계로 나눠 청크별 요약을 동시 요청 수 제한 안에서 병렬 실행 (map)
+     *   -> reduce-fan-in개씩 묶어 단계적으로 합친 뒤 마지막에 파일 요약 형식으로 정리 (reduce)
+     * - 소요 시간 ≈ (청크 수 / 동시 요청 수) + reduce 단계 수 - 전체 길이에 비례하지 않음
+     */
     public Mono<String> summarizeFileText(List<String> fileText) {
         if (fileText == null || fileText.isEmpty()) return Mono.just("");
 
-        String combined = String.join("\n", fileText);
-        return llmClient.summarize(combined, "file")
+        long totalLength = fileText.stream().mapToLong(String::length).sum();
+        Mono<String> summary;
+        if (totalLength <= chunkSize) {
+            summary = llmClient.summarize(String.join("\n", fileText), "file");
+        } else {
+            List<String> chunks = TextChunker.split(fileText, chunkSize);
+            log.info("파일 요약 분할: 문서 %d개, %d자 -> 청크 %d개".formatted(fileText.size(), totalLength, chunks.size()));
+            summary = Flux.fromIterable(chunks)
+                    .flatMapSequential(chunk -> llmClient.summarize(chunk, "fileChunk")
+                                    .onErrorResume(e -> {
+                                        log.warning("파일 청크 요약 실패: " + e.getMessage());
+                                        return Mono.empty();
+                                    }),
+                            concurrency)
+                    .collectList()
+                    .flatMap(this::reduceFileSummaries);
+        }
+        return summary
                 .onErrorResume(e -> {
                     log.severe("파일 요약 실패: " + e.getMessage());
                     return Mono.just("파일 요약 실패");
                 });
     }
 
+    // 부분 요약이 한 번에 합칠 수 있는 양이 될 때까지 묶어서 요약 (실패한 묶음은 제외)
+    private Mono<String> reduceFileSummaries(List<String> summaries) {
+        if (summaries.isEmpty()) {
+            return Mono.error(new IllegalStateException("청크 요약 결과 없음"));
+        }
+        String combined = String.join("\n\n", summaries);
+        int fanIn = Math.max(2, reduceFanIn); // 단계마다 요약 수가 줄어야 끝남
+        if (summaries.size() == 1 || (summaries.size() <= fanIn && combined.length() <= chunkSize)) {
+            return llmClient.summarize(combined, "file");
+        }
+        List<String> groups = new ArrayList<>();
+        for (int i = 0; i < summaries.size(); i += fanIn) {
+            groups.add(String.join("\n\n", summaries.subList(i, Math.min(i + fanIn, summaries.size()))));
+        }
+        return Flux.fromIterable(groups)
+                .flatMapSequential(group -> llmClient.summarize(group, "fileReduce")
+                                .onErrorResume(e -> {
+                                    log.warning("파일 부분 요약 통합 실패: " + e.getMessage());
+                                    return Mono.empty();
+                                }),
+                        concurrency)
+                .collectList()
+                .flatMap(this::reduceFileSummaries);
+    }
+
     public Mono<String> summarizeCombinedText(String combined) {
         if (combined == null || combined.isEmpty()) return Mono.just("");
 
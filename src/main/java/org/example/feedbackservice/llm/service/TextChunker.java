@@ -0,0 +1,70 @@
+package org.example.feedbackservice.llm.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 긴 텍스트를 LLM 요청 단위 청크로 분할
+ * - 청크 끝은 가능한 한 자연스러운 경계에서 자름: 페이지(\f) > 문단(빈 줄) > 줄 > 공백
+ * - 경계는 청크 뒤쪽(최소 크기 이후)에서만 찾음 - 너무 작은 청크가 생기지 않도록
+ */
+final class TextChunker {
+
+    private static final String[] BOUNDARIES = {"\f", "\n\n", "\n", " "};
+    // 청크 크기의 이 비율 이후에서만 경계를 찾음
+    private static final double MIN_FILL = 0.6;
+    private static final String DOCUMENT_SEPARATOR = "\n\n";
+
+    private TextChunker() {
+    }
+
+    // 문서별로 나눈 뒤, 작은 청크(짧은 문서)는 이웃과 합쳐 요청 수를 줄임
+    static List<String> split(List<String> texts, int chunkSize) {
+        List<String> chunks = new ArrayList<>();
+        StringBuilder pending = new StringBuilder();
+        for (String text : texts) {
+            for (String chunk : split(text, chunkSize)) {
+                if (!pending.isEmpty() && pending.length() + DOCUMENT_SEPARATOR.length() + chunk.length() > chunkSize) {
+                    chunks.add(pending.toString());
+                    pending.setLength(0);
+                }
+                if (!pending.isEmpty()) {
+                    pending.append(DOCUMENT_SEPARATOR);
+                }
+                pending.append(chunk);
+            }
+        }
+        if (!pending.isEmpty()) {
+            chunks.add(pending.toString());
+        }
+        return chunks;
+    }
+
+    static List<String> split(String text, int chunkSize) {
+        List<String> chunks = new ArrayList<>();
+        int start = 0;
+        while (start < text.length()) {
+            int end = Math.min(start + chunkSize, text.length());
+            if (end < text.length()) {
+                end = boundaryBefore(text, start + (int) (chunkSize * MIN_FILL), end);
+            }
+            String chunk = text.substring(start, end).strip();
+            if (!chunk.isEmpty()) {
+                chunks.add(chunk);
+            }
+            start = end;
+        }
+        return chunks;
+    }
+
+    // [from, to) 안의 마지막 경계 직후 위치 - 없으면 to (청크 크기에서 그대로 자름)
+    private static int boundaryBefore(String text, int from, int to) {
+        for (String boundary : BOUNDARIES) {
+            int index = text.lastIndexOf(boundary, to - boundary.length());
+            if (index >= from) {
+                return index + boundary.length();
+            }
+        }
+        return to;
+    }
+}
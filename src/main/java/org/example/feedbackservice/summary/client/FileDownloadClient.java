@@ -0,0 +1,158 @@
+package org.example.feedbackservice.summary.client;
+
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.java.Log;
+import org.example.feedbackservice.common.exception.FileDownloadException;
+import org.example.feedbackservice.common.utils.HttpClientTimeouts;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 포트폴리오 첨부 파일 다운로드 (스토리지 버킷 URL -> 임시 파일)
+ * - 응답 본문을 DataBuffer 단위로 받아 비동기 파일 채널로 바로 기록 (요청 스레드 / 힙에 파일 전체를 올리지 않음)
+ * - 크기 상한 (Content-Length 선확인 + 상한을 넘는 본문은 받는 도중 중단), 전체 다운로드 시간 상한
+ * - 연결 오류 / 5xx는 지수 백오프로 재시도, 실패 / 취소 시 임시 파일 삭제
+ * - http URL도 그대로 받으므로 로컬 정적 파일 서버로 스토리지 버킷을 대신할 수 있음
+ * - 커넥션 풀 지표: reactor.netty.connection.provider.*{name=file-download}
+ */
+@Component
+@RequiredArgsConstructor
+@Log
+public class FileDownloadClient {
+
+    private static final String POOL_NAME = "file-download";
+
+    private final WebClient.Builder webClientBuilder;
+
+    @Value("${file.download.max-connections:20}")
+    private int maxConnections;
+
+    @Value("${file.download.connect-timeout:5s}")
+    private Duration connectTimeout;
+
+    @Value("${file.download.read-timeout:30s}")
+    private Duration readTimeout;
+
+    // 파일 하나의 다운로드 전체 시간 상한 (재시도 포함)
+    @Value("${file.download.timeout:2m}")
+    private Duration timeout;
+
+    @Value("${file.download.max-size:50MB}")
+    private DataSize maxSize;
+
+    @Value("${file.download.max-retries:2}")
+    private int maxRetries;
+
+    @Value("${file.download.directory:${java.io.tmpdir}/feedback-download}")
+    private Path directory;
+
+    private ConnectionProvider connectionProvider;
+    private WebClient webClient;
+
+    @PostConstruct
+    void init() {
+        connectionProvider = ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(maxConnections)
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClientTimeouts.apply(HttpClient.create(connectionProvider)
+                        .followRedirect(true)
+                        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis()),
+                readTimeout, readTimeout);
+
+        webClient = webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    @PreDestroy
+    void destroy() {
+        connectionProvider.dispose();
+    }
+
+    /**
+     * 임시 파일로 다운로드 - 다 쓴 파일은 호출 측에서 삭제
+     */
+    public Mono<Path> download(String url) {
+        return Mono.fromCallable(() -> {
+                    Files.createDirectories(directory);
+                    return Files.createTempFile(directory, "download-", ".tmp");
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(file -> write(url, file)
+                        .thenReturn(file)
+                        .timeout(timeout)
+                        .doOnError(e -> delete(file))
+                        .doOnCancel(() -> delete(file)));
+    }
+
+    // 재시도마다 파일을 처음부터 다시 씀 (DataBufferUtils.write는 기존 내용을 덮어씀)
+    private Mono<Void> write(String url, Path file) {
+        return Mono.defer(() -> {
+                    Flux<DataBuffer> body = webClient.get()
+                            .uri(URI.create(url))
+                            .exchangeToFlux(response -> {
+                                if (!response.statusCode().is2xxSuccessful()) {
+                                    return response.<DataBuffer>createError().flux();
+                                }
+                                long length = response.headers().contentLength().orElse(-1);
+                                if (length > maxSize.toBytes()) {
+                                    return response.releaseBody()
+                                            .then(Mono.<DataBuffer>error(tooLarge(url))).flux();
+                                }
+                                return response.bodyToFlux(DataBuffer.class);
+                            });
+                    // Content-Length가 없거나 틀린 경우 - 상한 + 1바이트까지만 받고 구독 취소 후 크기로 판정
+                    return DataBufferUtils.write(DataBufferUtils.takeUntilByteCount(body, maxSize.toBytes() + 1), file)
+                            .then(Mono.fromCallable(() -> Files.size(file)))
+                            .flatMap(size -> size > maxSize.toBytes() ? Mono.error(tooLarge(url)) : Mono.<Void>empty());
+                })
+                .retryWhen(Retry.backoff(maxRetries, Duration.ofMillis(500))
+                        .filter(this::isTransient)
+                        .doBeforeRetry(signal -> log.warning("파일 다운로드 재시도 %d: %s - %s".formatted(
+                                signal.totalRetries() + 1, url, signal.failure().getMessage()))));
+    }
+
+    private boolean isTransient(Throwable e) {
+        if (e instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError();
+        }
+        return e instanceof IOException || e instanceof TimeoutException
+                || e.getCause() instanceof IOException;
+    }
+
+    private FileDownloadException tooLarge(String url) {
+        return new FileDownloadException("파일 크기 상한(%s) 초과: %s".formatted(maxSize, url));
+    }
+
+    private void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.fine("임시 파일 삭제 실패: " + file);
+        }
+    }
+}
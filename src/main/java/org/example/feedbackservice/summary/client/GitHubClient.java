@@ -0,0 +1,369 @@
+package org.example.feedbackservice.summary.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.java.Log;
+import org.example.feedbackservice.common.cache.PersistentLruCache;
+import org.example.feedbackservice.common.exception.GitHubManagementException;
+import org.example.feedbackservice.common.utils.HttpClientTimeouts;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.context.ContextView;
+import reactor.util.retry.Retry;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * GitHub REST API 공용 클라이언트
+ * - 애플리케이션 전체에서 하나의 WebClient / 커넥션 풀을 공유 (TLS 핸드셰이크 재사용)
+ * - 커넥션 풀 지표: reactor.netty.connection.provider.*{name=github}
+ *   (active/idle/pending 커넥션 수, pending.connections.time = 커넥션 획득 대기 시간)
+ * - 실행 단위 요청 메모 지표: github.requests.memo{result=issued|deduplicated}
+ */
+@Component
+@RequiredArgsConstructor
+@Log
+public class GitHubClient {
+
+    private static final String POOL_NAME = "github";
+
+    private final WebClient.Builder webClientBuilder;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${github.token}")
+    private String gitHubToken;
+
+    @Value("${github.client.base-url:https://api.github.com}")
+    private String baseUrl;
+
+    // GitHub Enterprise Server는 /api/graphql
+    @Value("${github.client.graphql-path:/graphql}")
+    private String graphqlPath;
+
+    @Value("${github.client.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${github.client.pending-acquire-max-count:500}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${github.client.pending-acquire-timeout:10s}")
+    private Duration pendingAcquireTimeout;
+
+    @Value("${github.client.max-idle-time:30s}")
+    private Duration maxIdleTime;
+
+    @Value("${github.client.max-life-time:5m}")
+    private Duration maxLifeTime;
+
+    @Value("${github.client.connect-timeout:5s}")
+    private Duration connectTimeout;
+
+    @Value("${github.client.read-timeout:20s}")
+    private Duration readTimeout;
+
+    @Value("${github.client.response-timeout:30s}")
+    private Duration responseTimeout;
+
+    // 요청 한도 스케줄링 (토큰 단위 동시 요청 상한 / 한도 소진 시 최대 대기 시간)
+    @Value("${github.rate-limit.max-in-flight:10}")
+    private int maxInFlight;
+
+    @Value("${github.rate-limit.max-wait:10m}")
+    private Duration maxRateLimitWait;
+
+    @Value("${github.rate-limit.max-retries:3}")
+    private int maxRateLimitRetries;
+
+    // 조건부 요청(ETag / Last-Modified) 응답 캐시
+    @Value("${github.cache.max-size:64MB}")
+    private DataSize cacheMaxSize;
+
+    // 스트리밍 응답(트리, 커밋 목록) 중 캐시에 저장할 본문 크기 상한
+    @Value("${github.cache.max-entry-size:8MB}")
+    private DataSize cacheMaxEntrySize;
+
+    @Value("${github.cache.directory:}")
+    private String cacheDirectory;
+
+    private ConnectionProvider connectionProvider;
+    private DefaultUriBuilderFactory uriBuilderFactory;
+    private WebClient webClient;
+    private PersistentLruCache<CachedResponse> responseCache;
+    private GitHubRateLimiter rateLimiter;
+    private Counter memoIssued;
+    private Counter memoDeduplicated;
+
+    @PostConstruct
+    void init() {
+        connectionProvider = ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(maxIdleTime)
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClientTimeouts.apply(HttpClient.create(connectionProvider)
+                        .keepAlive(true)
+                        .followRedirect(true) // zipball -> codeload.github.com 리다이렉트
+                        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                        .option(ChannelOption.SO_KEEPALIVE, true),
+                responseTimeout, readTimeout);
+
+        // HTTP/2는 TLS(ALPN) 위에서만 협상 - 로컬 스텁 서버(http) 사용 시 HTTP/1.1
+        httpClient = baseUrl.startsWith("https")
+                ? httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure()
+                : httpClient.protocol(HttpProtocol.HTTP11);
+
+        // 캐시 키(URL)와 실제 요청 URL이 같도록 동일한 UriBuilderFactory 사용
+        uriBuilderFactory = new DefaultUriBuilderFactory(baseUrl);
+        uriBuilderFactory.setEncodingMode(DefaultUriBuilderFactory.EncodingMode.TEMPLATE_AND_VALUES);
+
+        webClient = webClientBuilder
+                .uriBuilderFactory(uriBuilderFactory)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .defaultHeader(HttpHeaders.ACCEPT, "application/vnd.github+json")
+                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + gitHubToken)
+                .build();
+        responseCache = new PersistentLruCache<>("github.responses", cacheMaxSize, cacheDirectory,
+                CachedResponse.class, CachedResponse::weight, objectMapper, meterRegistry);
+        rateLimiter = new GitHubRateLimiter(maxInFlight, maxRateLimitWait, meterRegistry);
+        memoIssued = Counter.builder("github.requests.memo").tag("result", "issued").register(meterRegistry);
+        memoDeduplicated = Counter.builder("github.requests.memo").tag("result", "deduplicated").register(meterRegistry);
+        log.info("GitHub 클라이언트 초기화: maxConnections=" + maxConnections + ", baseUrl=" + baseUrl);
+    }
+
+    @PreDestroy
+    void destroy() {
+        connectionProvider.dispose();
+    }
+
+    /**
+     * GET 요청 - JSON 응답
+     * - 캐시된 응답이 있으면 If-None-Match / If-Modified-Since 조건부 요청
+     * - 304 Not Modified 시 캐시 본문 재사용 (GitHub 요청 한도 차감 없음)
+     * - 요청 스케줄러를 거쳐 실행, 한도 초과 응답은 재개 시각 이후 재시도
+     * - Context에 요청 메모(GitHubRequestMemo)가 있으면 같은 실행 안의 중복 요청은 첫 응답을 공유
+     */
+    public Mono<JsonNode> get(String uriTemplate, Object... uriVariables) {
+        URI uri = uriBuilderFactory.expand(uriTemplate, uriVariables);
+        String cacheKey = uri.toString();
+
+        return Mono.deferContextual(context -> memoized(context, cacheKey, () -> request(uri, cacheKey)));
+    }
+
+    /**
+     * GraphQL 요청 (POST /graphql) - 응답의 data 반환, errors가 있으면 실패
+     * - 조건부 요청 캐시 대상 아님 (POST), 실행 단위 요청 메모는 공유
+     */
+    public Mono<JsonNode> graphql(String query, Map<String, Object> variables) {
+        String memoKey = "graphql:" + query.hashCode() + ":" + variables;
+        return Mono.deferContextual(context -> memoized(context, memoKey, () -> rateLimiter.schedule(() -> webClient.post()
+                                .uri(graphqlPath)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(Map.of("query", query, "variables", variables))
+                                .exchangeToMono(response -> {
+                                    rateLimiter.update(response.statusCode(), response.headers().asHttpHeaders());
+                                    return response.statusCode().is2xxSuccessful()
+                                            ? response.bodyToMono(JsonNode.class)
+                                            : response.createError();
+                                }))
+                        .retryWhen(rateLimitRetry())
+                        .flatMap(body -> body.path("errors").isEmpty()
+                                ? Mono.just(body.path("data"))
+                                : Mono.error(new GitHubManagementException(
+                                        "GraphQL 오류: " + body.path("errors").path(0).path("message").asText())))));
+    }
+
+    // Context에 요청 메모가 있으면 같은 키의 첫 응답을 공유
+    private Mono<JsonNode> memoized(ContextView context, String key, Supplier<Mono<JsonNode>> request) {
+        return GitHubRequestMemo.current(context)
+                .map(memo -> {
+                    AtomicBoolean issued = new AtomicBoolean();
+                    Mono<JsonNode> response = memo.get(key, () -> {
+                        issued.set(true);
+                        return request.get();
+                    });
+                    (issued.get() ? memoIssued : memoDeduplicated).increment();
+                    return response;
+                })
+                .orElseGet(request);
+    }
+
+    private Mono<JsonNode> request(URI uri, String cacheKey) {
+        return rateLimiter.schedule(() -> {
+                    CachedResponse cached = responseCache.get(cacheKey).orElse(null);
+                    return webClient.get()
+                            .uri(uri)
+                            .headers(headers -> conditionalHeaders(headers, cached))
+                            .exchangeToMono(response -> {
+                                rateLimiter.update(response.statusCode(), response.headers().asHttpHeaders());
+                                if (response.statusCode().value() == HttpStatus.NOT_MODIFIED.value() && cached != null) {
+                                    return response.releaseBody().thenReturn(cached.body());
+                                }
+                                if (response.statusCode().is2xxSuccessful()) {
+                                    return response.bodyToMono(String.class)
+                                            .defaultIfEmpty("")
+                                            .doOnNext(body -> storeResponse(cacheKey, response.headers().asHttpHeaders(), body));
+                                }
+                                return response.createError();
+                            });
+                })
+                .retryWhen(rateLimitRetry())
+                .flatMap(body -> Mono.fromCallable(() -> objectMapper.readTree(body)));
+    }
+
+    /**
+     * GET 요청 - JSON 배열 스트리밍 (재귀 트리, 커밋 목록 등 큰 응답)
+     * - 본문을 메모리에 모으지 않고 도착하는 대로 디코딩해 arrayField 배열의 원소를 하나씩 발행 (null이면 최상위 배열)
+     * - 배열 밖의 최상위 값(truncated 등)은 스트림 완료 후 fields에서 확인
+     * - 조건부 요청 캐시 공유: 304면 캐시 본문을 같은 방식으로 디코딩, 200 본문은 cache.max-entry-size 이하일 때만 저장
+     */
+    public Flux<JsonNode> getArray(String uriTemplate, String arrayField, Map<String, JsonNode> fields,
+                                   Object... uriVariables) {
+        URI uri = uriBuilderFactory.expand(uriTemplate, uriVariables);
+        String cacheKey = uri.toString();
+
+        return rateLimiter.scheduleMany(() -> {
+                    CachedResponse cached = responseCache.get(cacheKey).orElse(null);
+                    return webClient.get()
+                            .uri(uri)
+                            .headers(headers -> conditionalHeaders(headers, cached))
+                            .exchangeToFlux(response -> {
+                                rateLimiter.update(response.statusCode(), response.headers().asHttpHeaders());
+                                if (response.statusCode().value() == HttpStatus.NOT_MODIFIED.value() && cached != null) {
+                                    return response.releaseBody().thenMany(JsonStreamDecoder.decode(
+                                            Flux.just(cached.body().getBytes(StandardCharsets.UTF_8)),
+                                            objectMapper, arrayField, fields));
+                                }
+                                if (response.statusCode().is2xxSuccessful()) {
+                                    BodyRecorder recorder = new BodyRecorder(cacheMaxEntrySize.toBytes());
+                                    Flux<byte[]> chunks = response.bodyToFlux(DataBuffer.class)
+                                            .map(this::toBytes)
+                                            .doOnNext(recorder::append);
+                                    return JsonStreamDecoder.decode(chunks, objectMapper, arrayField, fields)
+                                            .doOnComplete(() -> recorder.body().ifPresent(body ->
+                                                    storeResponse(cacheKey, response.headers().asHttpHeaders(), body)));
+                                }
+                                return response.<JsonNode>createError().flux();
+                            });
+                })
+                .retryWhen(rateLimitRetry());
+    }
+
+    // GET 요청 - 바이너리 스트리밍 (아카이브 다운로드), 요청 스케줄러를 거쳐 실행 (본문을 다 읽을 때까지 허용량 유지)
+    public Flux<DataBuffer> download(String uriTemplate, Object... uriVariables) {
+        return rateLimiter.scheduleMany(() -> webClient.get()
+                        .uri(uriTemplate, uriVariables)
+                        .exchangeToFlux(response -> {
+                            rateLimiter.update(response.statusCode(), response.headers().asHttpHeaders());
+                            return response.statusCode().is2xxSuccessful()
+                                    ? response.bodyToFlux(DataBuffer.class)
+                                    : response.<DataBuffer>createError().flux();
+                        }))
+                .retryWhen(rateLimitRetry());
+    }
+
+    private Retry rateLimitRetry() {
+        return Retry.max(maxRateLimitRetries)
+                .filter(rateLimiter::isRateLimited)
+                .doBeforeRetry(signal -> log.warning("GitHub 요청 한도 초과 - 재시도 " + (signal.totalRetries() + 1)));
+    }
+
+    // 캐시된 응답의 검증자로 조건부 요청
+    private void conditionalHeaders(HttpHeaders headers, CachedResponse cached) {
+        if (cached == null) {
+            return;
+        }
+        if (cached.etag() != null) {
+            headers.setIfNoneMatch(cached.etag());
+        } else if (cached.lastModified() != null) {
+            headers.set(HttpHeaders.IF_MODIFIED_SINCE, cached.lastModified());
+        }
+    }
+
+    private byte[] toBytes(DataBuffer buffer) {
+        try {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            return bytes;
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    // 검증자(ETag / Last-Modified)가 있는 응답만 캐시
+    private void storeResponse(String cacheKey, HttpHeaders headers, String body) {
+        String etag = headers.getETag();
+        String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+        if (etag == null && lastModified == null) {
+            return;
+        }
+        responseCache.put(cacheKey, new CachedResponse(etag, lastModified, body));
+    }
+
+    // 스트리밍 응답의 캐시 저장용 본문 누적 - 상한 초과 시 누적 중단 (캐시하지 않음)
+    private static class BodyRecorder {
+        private final long limit;
+        private ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        BodyRecorder(long limit) {
+            this.limit = limit;
+        }
+
+        void append(byte[] chunk) {
+            if (body == null) {
+                return;
+            }
+            if (body.size() + chunk.length > limit) {
+                body = null;
+                return;
+            }
+            body.write(chunk, 0, chunk.length);
+        }
+
+        Optional<String> body() {
+            return Optional.ofNullable(body).map(bytes -> bytes.toString(StandardCharsets.UTF_8));
+        }
+    }
+
+    public record CachedResponse(
+            String etag,
+            String lastModified,
+            String body
+    ) {
+        long weight() {
+            return 2L * body.length() + 128;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package org.example.feedbackservice.summary.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.java.Log;
+import org.example.feedbackservice.common.exception.GitHubManagementException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * GitHub 요청 스케줄러 (토큰 단위)
+ * - 동시 요청 수 상한: 초과 요청은 실패시키지 않고 대기열에서 순서대로 실행
+ * - X-RateLimit-Remaining / X-RateLimit-Reset / Retry-After(초 또는 HTTP 날짜) 헤더를 반영해 한도 소진 시 재개 시각까지 지연
+ *   해석할 수 없는 헤더 값은 무시
+ * - 한도 초과 응답(429, 2차 한도 403 등)에서 헤더로 재개 시각을 알 수 없으면 최소 1분 지연 후 재시도
+ * - 지표: github.ratelimit.remaining, github.ratelimit.queue.depth, github.ratelimit.in.flight
+ */
+@Log
+public class GitHubRateLimiter {
+
+    private static final String REMAINING = "X-RateLimit-Remaining";
+    private static final String RESET = "X-RateLimit-Reset";
+    private static final String SECONDARY_LIMIT_MESSAGE = "secondary rate limit";
+    private static final Duration MIN_LIMIT_BACKOFF = Duration.ofMinutes(1);
+
+    private final int maxInFlight;
+    private final Duration maxWait;
+
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+    private int inFlight;
+
+    private volatile long remaining = -1;
+    private volatile Instant pausedUntil = Instant.EPOCH;
+
+    public GitHubRateLimiter(int maxInFlight, Duration maxWait, MeterRegistry meterRegistry) {
+        this.maxInFlight = maxInFlight;
+        this.maxWait = maxWait;
+
+        Gauge.builder("github.ratelimit.remaining", this, limiter -> limiter.remaining < 0 ? Double.NaN : limiter.remaining)
+                .description("GitHub API 남은 요청 한도")
+                .register(meterRegistry);
+        Gauge.builder("github.ratelimit.queue.depth", this, GitHubRateLimiter::queueDepth)
+                .description("동시 요청 상한으로 대기 중인 GitHub 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("github.ratelimit.in.flight", this, GitHubRateLimiter::inFlight)
+                .description("처리 중인 GitHub 요청 수")
+                .register(meterRegistry);
+    }
+
+    // 요청 실행 - 허용량 획득 -> 한도 소진 시 지연 -> 요청 -> 허용량 반환
+    public <T> Mono<T> schedule(Supplier<Mono<T>> request) {
+        return Mono.usingWhen(
+                acquire(),
+                permit -> waitForQuota().then(Mono.defer(request)),
+                permit -> Mono.fromRunnable(this::release));
+    }
+
+    // 스트리밍 요청 - 본문을 끝까지 읽을 때까지 허용량 유지
+    public <T> Flux<T> scheduleMany(Supplier<Flux<T>> request) {
+        return Flux.usingWhen(
+                acquire(),
+                permit -> waitForQuota().thenMany(Flux.defer(request)),
+                permit -> Mono.fromRunnable(this::release));
+    }
+
+    // 응답 헤더로 남은 한도 / 재개 시각 갱신
+    public void update(HttpStatusCode status, HttpHeaders headers) {
+        Long remainingValue = parseLong(headers.getFirst(REMAINING));
+        if (remainingValue != null) {
+            remaining = remainingValue;
+        }
+
+        Instant resumeAt = isLimitStatus(status) ? parseRetryAfter(headers.getFirst(HttpHeaders.RETRY_AFTER)) : null;
+        if (resumeAt == null && remaining == 0) {
+            Long reset = parseLong(headers.getFirst(RESET));
+            resumeAt = reset != null ? Instant.ofEpochSecond(reset) : null;
+        }
+        pauseUntil(resumeAt);
+    }
+
+    /**
+     * 한도 초과 응답 여부 (재시도 대상)
+     * - 429, 2차 한도 403, Retry-After 또는 X-RateLimit-Remaining: 0이 있는 403
+     * - 헤더로 재개 시각(Retry-After, 소진 시 X-RateLimit-Reset)을 알 수 없으면 최소 1분 지연 후 재시도
+     *   (지연 없이 바로 재시도하면 이미 제한 중인 서버에 다시 요청하게 됨)
+     */
+    public boolean isRateLimited(Throwable error) {
+        if (!(error instanceof WebClientResponseException ex) || !isLimitStatus(ex.getStatusCode())) {
+            return false;
+        }
+        HttpHeaders headers = ex.getHeaders();
+        Instant retryAfter = parseRetryAfter(headers.getFirst(HttpHeaders.RETRY_AFTER));
+        boolean exhausted = Long.valueOf(0).equals(parseLong(headers.getFirst(REMAINING)));
+        boolean limited = ex.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()
+                || isSecondaryLimit(ex) || retryAfter != null || exhausted;
+        if (!limited) {
+            return false;
+        }
+        Long reset = exhausted ? parseLong(headers.getFirst(RESET)) : null;
+        if (retryAfter == null && reset == null) {
+            pauseUntil(Instant.now().plus(MIN_LIMIT_BACKOFF));
+        }
+        return true;
+    }
+
+    // 2차 한도는 응답 본문 메시지로만 구분됨 (권한 부족 403과 구분)
+    private boolean isSecondaryLimit(WebClientResponseException ex) {
+        return ex.getStatusCode().value() == HttpStatus.FORBIDDEN.value()
+                && ex.getResponseBodyAsString().toLowerCase().contains(SECONDARY_LIMIT_MESSAGE);
+    }
+
+    private void pauseUntil(Instant resumeAt) {
+        if (resumeAt != null && resumeAt.isAfter(pausedUntil)) {
+            pausedUntil = resumeAt;
+            log.warning("GitHub 요청 한도 도달 - 재개 시각: " + resumeAt);
+        }
+    }
+
+    // Retry-After - 초 단위 지연 또는 HTTP 날짜 (둘 다 아니면 null)
+    private Instant parseRetryAfter(String value) {
+        if (value == null) {
+            return null;
+        }
+        Long seconds = parseLong(value);
+        if (seconds != null) {
+            return seconds >= 0 ? Instant.now().plusSeconds(seconds) : null;
+        }
+        try {
+            return ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+        } catch (DateTimeParseException e) {
+            log.warning("Retry-After 헤더 해석 실패: " + value);
+            return null;
+        }
+    }
+
+    private Long parseLong(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private boolean isLimitStatus(HttpStatusCode status) {
+        return status.value() == HttpStatus.FORBIDDEN.value()
+                || status.value() == HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    private Mono<Void> waitForQuota() {
+        Duration wait = Duration.between(Instant.now(), pausedUntil);
+        if (wait.isNegative() || wait.isZero()) {
+            return Mono.empty();
+        }
+        if (wait.compareTo(maxWait) > 0) {
+            return Mono.error(new GitHubManagementException("GitHub 요청 한도 초과 - 재개 시각: " + pausedUntil));
+        }
+        return Mono.delay(wait).then();
+    }
+
+    private Mono<Permit> acquire() {
+        return Mono.<Permit>create(sink -> {
+                    Waiter waiter = new Waiter(sink);
+                    synchronized (this) {
+                        if (inFlight < maxInFlight) {
+                            inFlight++;
+                            waiter.granted.set(true);
+                        } else {
+                            waiters.addLast(waiter);
+                        }
+                    }
+                    if (waiter.granted.get()) {
+                        sink.success(Permit.INSTANCE);
+                        return;
+                    }
+                    sink.onCancel(() -> {
+                        // 대기 중 취소 - 대기열에서만 제거 (허용량을 받은 뒤라면 discard 훅에서 반환)
+                        if (waiter.granted.compareAndSet(false, true)) {
+                            synchronized (this) {
+                                waiters.remove(waiter);
+                            }
+                        }
+                    });
+                })
+                .doOnDiscard(Permit.class, permit -> release());
+    }
+
+    // 허용량 반환 - 대기 중인 요청이 있으면 그대로 넘겨줌
+    private void release() {
+        while (true) {
+            Waiter next;
+            synchronized (this) {
+                next = waiters.pollFirst();
+                if (next == null) {
+                    inFlight--;
+                    return;
+                }
+            }
+            if (next.granted.compareAndSet(false, true)) {
+                next.sink.success(Permit.INSTANCE);
+                return;
+            }
+        }
+    }
+
+    private synchronized int queueDepth() {
+        return waiters.size();
+    }
+
+    private synchronized int inFlight() {
+        return inFlight;
+    }
+
+    private enum Permit {
+        INSTANCE
+    }
+
+    private static class Waiter {
+        private final MonoSink<Permit> sink;
+        private final AtomicBoolean granted = new AtomicBoolean();
+
+        Waiter(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.feedbackservice.summary.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 분석 실행 단위 GitHub 요청 메모 (Reactor Context로 전달)
+ * - 같은 실행 안에서 같은 URL의 GET 응답은 한 번만 요청하고 Mono.cache()로 공유
+ * - 오류는 보관하지 않음 - 진행 중인 요청의 구독자만 같은 오류를 받고, 이후 구독은 다시 요청
+ * - 실행이 끝나면 버림 - 실행 간 재사용은 조건부 요청 캐시(ETag)가 담당
+ */
+public final class GitHubRequestMemo {
+
+    // Reactor가 만료 없음으로 취급하는 값 (MonoCacheTime)
+    private static final Duration FOREVER = Duration.ofMillis(Long.MAX_VALUE);
+
+    private final Map<String, Mono<JsonNode>> responses = new ConcurrentHashMap<>();
+    private final AtomicInteger issued = new AtomicInteger();
+    private final AtomicInteger deduplicated = new AtomicInteger();
+
+    // 컨텍스트에 메모가 없을 때만 새로 추가 (바깥 실행의 메모가 있으면 그대로 공유)
+    public static Context ensure(Context context) {
+        return context.hasKey(GitHubRequestMemo.class) ? context : context.put(GitHubRequestMemo.class, new GitHubRequestMemo());
+    }
+
+    public static Optional<GitHubRequestMemo> current(ContextView context) {
+        return context.getOrEmpty(GitHubRequestMemo.class);
+    }
+
+    public Context bind(Context context) {
+        return context.put(GitHubRequestMemo.class, this);
+    }
+
+    public int issued() {
+        return issued.get();
+    }
+
+    public int deduplicated() {
+        return deduplicated.get();
+    }
+
+    Mono<JsonNode> get(String key, Supplier<Mono<JsonNode>> request) {
+        Mono<JsonNode> existing = responses.get(key);
+        if (existing != null) {
+            deduplicated.incrementAndGet();
+            return existing;
+        }
+        Mono<JsonNode> created = request.get().cache(value -> FOREVER, error -> Duration.ZERO, () -> FOREVER);
+        existing = responses.putIfAbsent(key, created);
+        if (existing != null) {
+            deduplicated.incrementAndGet();
+            return existing;
+        }
+        issued.incrementAndGet();
+        return created;
+    }
+}
@@ -0,0 +1,159 @@
+package org.example.feedbackservice.summary.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.springframework.core.codec.DecodingException;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON 응답 스트리밍 디코딩 (Jackson non-blocking 파서)
+ * - 본문 조각이 도착하는 대로 파싱해 배열 원소를 하나씩 발행 - 본문 전체를 JsonNode로 만들지 않음
+ * - 원소 하나 분량의 토큰만 TokenBuffer에 모았다가 JsonNode로 변환
+ * - arrayField: 최상위 객체 안의 배열 이름 (null이면 최상위 배열)
+ * - 배열 밖의 최상위 스칼라 값(truncated 등)은 fields에 기록 - 스트림 완료 후 확인
+ */
+final class JsonStreamDecoder {
+
+    private final ObjectMapper objectMapper;
+    private final String arrayField;
+    private final Map<String, JsonNode> fields;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    private int depth;
+    private String field;
+    private boolean inArray;
+    private TokenBuffer element;
+    private int elementDepth;
+
+    private JsonStreamDecoder(ObjectMapper objectMapper, String arrayField, Map<String, JsonNode> fields)
+            throws IOException {
+        this.objectMapper = objectMapper;
+        this.arrayField = arrayField;
+        this.fields = fields;
+        this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    static Flux<JsonNode> decode(Flux<byte[]> chunks, ObjectMapper objectMapper, String arrayField,
+                                 Map<String, JsonNode> fields) {
+        return Flux.defer(() -> {
+            JsonStreamDecoder decoder = new JsonStreamDecoder(objectMapper, arrayField, fields);
+            return chunks.concatMapIterable(decoder::feed)
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(decoder.endOfInput())))
+                    .doFinally(signal -> decoder.close());
+        });
+    }
+
+    private List<JsonNode> feed(byte[] chunk) {
+        if (chunk.length == 0) {
+            return List.of();
+        }
+        try {
+            feeder.feedInput(chunk, 0, chunk.length);
+        } catch (IOException e) {
+            throw new DecodingException("JSON 스트리밍 디코딩 실패", e);
+        }
+        return drain();
+    }
+
+    private List<JsonNode> endOfInput() {
+        feeder.endOfInput();
+        List<JsonNode> nodes = drain();
+        if (depth != 0 || element != null) {
+            throw new DecodingException("JSON 본문이 중간에 끝남");
+        }
+        return nodes;
+    }
+
+    // 현재까지 받은 입력으로 완성된 원소만 반환 (NOT_AVAILABLE이면 다음 조각 대기)
+    private List<JsonNode> drain() {
+        List<JsonNode> nodes = new ArrayList<>();
+        try {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                if (element != null || (inArray && token != JsonToken.END_ARRAY)) {
+                    JsonNode node = collect(token);
+                    if (node != null) {
+                        nodes.add(node);
+                    }
+                } else {
+                    track(token);
+                }
+            }
+        } catch (IOException e) {
+            throw new DecodingException("JSON 스트리밍 디코딩 실패", e);
+        }
+        return nodes;
+    }
+
+    // 배열 원소 토큰 누적 - 원소가 끝나면 JsonNode로 변환
+    private JsonNode collect(JsonToken token) throws IOException {
+        if (element == null) {
+            element = new TokenBuffer(parser);
+        }
+        element.copyCurrentEvent(parser);
+        if (token.isStructStart()) {
+            elementDepth++;
+        } else if (token.isStructEnd()) {
+            elementDepth--;
+        }
+        if (elementDepth > 0) {
+            return null;
+        }
+        JsonNode node = toNode(element);
+        element = null;
+        return node;
+    }
+
+    // 배열 밖 토큰 - 대상 배열 시작 위치와 최상위 값 추적 (그 외 중첩 값은 건너뜀)
+    private void track(JsonToken token) throws IOException {
+        switch (token) {
+            case START_ARRAY -> {
+                depth++;
+                inArray = arrayField == null ? depth == 1 : depth == 2 && arrayField.equals(field);
+            }
+            case START_OBJECT -> depth++;
+            case END_ARRAY -> {
+                inArray = false;
+                depth--;
+            }
+            case END_OBJECT -> depth--;
+            case FIELD_NAME -> {
+                if (depth == 1) {
+                    field = parser.currentName();
+                }
+            }
+            default -> {
+                if (depth == 1 && field != null) {
+                    TokenBuffer value = new TokenBuffer(parser);
+                    value.copyCurrentEvent(parser);
+                    fields.put(field, toNode(value));
+                }
+            }
+        }
+    }
+
+    private JsonNode toNode(TokenBuffer buffer) throws IOException {
+        try (JsonParser tokens = buffer.asParser(objectMapper)) {
+            return objectMapper.readTree(tokens);
+        }
+    }
+
+    private void close() {
+        try {
+            parser.close();
+        } catch (IOException ignored) {
+            // non-blocking 파서는 외부 자원 없음
+        }
+    }
+}
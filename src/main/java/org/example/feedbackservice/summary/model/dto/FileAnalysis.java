@@ -0,0 +1,8 @@
+package org.example.feedbackservice.summary.model.dto;
+
+public record FileAnalysis(
+        String path,
+        String sha, // git blob SHA
+        String analysis
+) {
+}
@@ -2,8 +2,13 @@ package org.example.feedbackservice.summary.model.dto;
 
 import lombok.Data;
 
+import java.util.List;
+
 @Data
 public class GitHubSummaryDTO {
+    private String owner;
+    private String repo;
+    private String commitSha;
     private String directoryTree;
     private String languages;
     private String codeStructure;
@@ -11,4 +16,5 @@ public class GitHubSummaryDTO {
     private String commitSummary;
     private String ciCd;
     private String finalSummary;
+    private List<FileAnalysis> fileAnalyses; // 파일별 코드 분석 (증분 분석용)
 }
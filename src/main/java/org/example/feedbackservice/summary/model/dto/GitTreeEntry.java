@@ -0,0 +1,16 @@
+package org.example.feedbackservice.summary.model.dto;
+
+public record GitTreeEntry(
+        String path,
+        String type,
+        String sha,
+        long size
+) {
+    public boolean isBlob() {
+        return "blob".equals(type);
+    }
+
+    public boolean isTree() {
+        return "tree".equals(type);
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.feedbackservice.summary.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"owner", "repo", "commitSha"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GitHubAnalysis {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String owner;
+    private String repo;
+    private String commitSha; // 분석 시점의 기본 브랜치 HEAD
+
+    @Lob
+    private String directoryTree;
+
+    @Lob
+    private String languages;
+
+    @Lob
+    private String codeStructure;
+
+    @Lob
+    private String readmeSummary;
+
+    @Lob
+    private String commitSummary;
+
+    @Lob
+    private String ciCd;
+
+    @Lob
+    private String githubSummary; // LLM GitHub 요약
+
+    @Lob
+    private String fileAnalyses; // 파일별 코드 분석 (JSON, 증분 분석용)
+
+    private ZonedDateTime createdAt = ZonedDateTime.now(ZoneOffset.UTC);
+}
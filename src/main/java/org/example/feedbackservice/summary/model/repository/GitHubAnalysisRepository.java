@@ -0,0 +1,17 @@
+package org.example.feedbackservice.summary.model.repository;
+
+import org.example.feedbackservice.summary.model.entity.GitHubAnalysis;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface GitHubAnalysisRepository extends JpaRepository<GitHubAnalysis, Long> {
+    GitHubAnalysis findByOwnerAndRepoAndCommitSha(String owner, String repo, String commitSha);
+
+    GitHubAnalysis findTopByOwnerAndRepoOrderByCreatedAtDesc(String owner, String repo);
+
+    @Query("SELECT a.id FROM GitHubAnalysis a WHERE a.owner = :owner AND a.repo = :repo ORDER BY a.createdAt DESC, a.id DESC")
+    List<Long> findIdsByOwnerAndRepoNewestFirst(@Param("owner") String owner, @Param("repo") String repo);
+}
@@ -1,8 +1,10 @@
 package org.example.feedbackservice.summary.service;
 
+import org.example.feedbackservice.summary.service.file.ExtractedText;
+import reactor.core.publisher.Mono;
+
 import java.util.List;
 
 public interface FileReadService {
-    List<String> extractTextsFromFiles(List<String> fileUrls);
+    Mono<List<ExtractedText>> extractTextsFromFiles(List<String> fileUrls);
 }
-
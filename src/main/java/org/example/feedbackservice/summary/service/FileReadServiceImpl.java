@@ -1,38 +1,149 @@
 package org.example.feedbackservice.summary.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.java.Log;
-import org.apache.tika.metadata.Metadata;
-import org.apache.tika.parser.AutoDetectParser;
-import org.apache.tika.parser.ParseContext;
-import org.apache.tika.sax.BodyContentHandler;
+import org.apache.tika.io.TikaInputStream;
+import org.example.feedbackservice.summary.client.FileDownloadClient;
+import org.example.feedbackservice.summary.service.file.DocumentTextExtractor;
+import org.example.feedbackservice.summary.service.file.ExtractedText;
+import org.example.feedbackservice.summary.service.file.ExtractedTextCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
 import java.io.InputStream;
-import java.net.URL;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 포트폴리오 첨부 파일 텍스트 추출 (Tika)
+ * - 파일은 먼저 비동기로 임시 파일에 다운로드 (크기 / 시간 상한, FileDownloadClient)
+ * - 파싱은 블로킹 작업이므로 요청 스레드가 아닌 전용 스레드 풀에서 파일별로 병렬 실행
+ *   임시 파일 위의 TikaInputStream으로 파싱 (PDF 등 임의 접근이 필요한 형식도 메모리 복사 없이 처리)
+ * - 같은 내용(해시)의 파일은 추출 텍스트 캐시에서 재사용 (파싱 생략)
+ * - 파싱 시간 상한 초과 시 구독 취소 -> 입력 스트림을 닫아 파싱 중단, 해당 파일은 빈 텍스트
+ * - 문자 예산: 파일당 max-chars-per-file, 포트폴리오 전체 max-chars-per-portfolio (파일 수로 나눠 배분)
+ * - 지표: executor.*{name=file.extraction}
+ */
 @Service
 @Log
 @RequiredArgsConstructor
 public class FileReadServiceImpl implements FileReadService {
 
+    private final MeterRegistry meterRegistry;
+    private final DocumentTextExtractor documentTextExtractor;
+    private final FileDownloadClient fileDownloadClient;
+    private final ExtractedTextCache extractedTextCache;
+
+    @Value("${file.extraction.threads:4}")
+    private int threads;
+
+    @Value("${file.extraction.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${file.extraction.file-timeout:60s}")
+    private Duration fileTimeout;
+
+    @Value("${file.extraction.max-chars-per-file:200000}")
+    private int maxCharsPerFile;
+
+    @Value("${file.extraction.max-chars-per-portfolio:500000}")
+    private int maxCharsPerPortfolio;
+
+    private ThreadPoolExecutor executor;
+    private Scheduler scheduler;
+
+    @PostConstruct
+    void init() {
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("file-extraction-"));
+        scheduler = Schedulers.fromExecutorService(
+                ExecutorServiceMetrics.monitor(meterRegistry, executor, "file.extraction"), "file-extraction");
+    }
+
+    @PreDestroy
+    void destroy() {
+        scheduler.dispose();
+        executor.shutdownNow();
+    }
+
+    // 입력 순서대로 반환 (추출 실패 / 시간 초과 파일은 빈 텍스트) - 중간에 취소되면 이미 추출한 임시 파일 정리
     @Override
-    public List<String> extractTextsFromFiles(List<String> fileUrls) {
-        return fileUrls.stream()
-                .map(this::extractTextFromTika)
-                .toList();
-    }
-
-    private String extractTextFromTika(String fileUrl) {
-        AutoDetectParser parser = new AutoDetectParser();
-        try (InputStream input = new URL(fileUrl).openStream()) {
-            BodyContentHandler handler =new BodyContentHandler(-1); // 무제한
-            Metadata metadata = new Metadata();
-            parser.parse(input, handler, metadata, new ParseContext());
-            return handler.toString();
-        } catch (Exception e) {
-            return "";
+    public Mono<List<ExtractedText>> extractTextsFromFiles(List<String> fileUrls) {
+        int maxChars = Math.max(1, Math.min(maxCharsPerFile, maxCharsPerPortfolio / Math.max(1, fileUrls.size())));
+        return Flux.fromIterable(fileUrls)
+                .flatMapSequential(fileUrl -> extractText(fileUrl, maxChars), threads)
+                .collectList()
+                .doOnDiscard(ExtractedText.class, ExtractedText::discard);
+    }
+
+    // 다운로드 -> 파싱 -> 임시 파일 삭제
+    private Mono<ExtractedText> extractText(String fileUrl, int maxChars) {
+        return Mono.usingWhen(fileDownloadClient.download(fileUrl),
+                        file -> parse(file, fileName(fileUrl), maxChars),
+                        file -> Mono.fromRunnable(() -> delete(file)).subscribeOn(Schedulers.boundedElastic()))
+                .doOnNext(text -> {
+                    if (text.truncated()) {
+                        log.info("문자 예산(%d) 도달로 일부만 추출: %s".formatted(maxChars, fileUrl));
+                    }
+                })
+                .onErrorResume(e -> {
+                    log.warning("파일 텍스트 추출 실패: " + fileUrl + " - " + e);
+                    return Mono.just(ExtractedText.empty());
+                });
+    }
+
+    // 내용 해시로 캐시 확인 후, 없으면 파싱해서 저장
+    private Mono<ExtractedText> parse(Path file, String fileName, int maxChars) {
+        return Mono.fromCallable(() -> extractedTextCache.keyOf(file, fileName))
+                .flatMap(key -> Mono.justOrEmpty(extractedTextCache.get(key, maxChars))
+                        .switchIfEmpty(Mono.using(() -> TikaInputStream.get(file),
+                                        input -> Mono.fromCallable(() -> documentTextExtractor.extract(input, fileName, maxChars)),
+                                        this::closeQuietly)
+                                .doOnNext(text -> extractedTextCache.put(key, text))))
+                .subscribeOn(scheduler)
+                .timeout(fileTimeout);
+    }
+
+    // URL 경로의 마지막 부분 (형식 검출 보조)
+    private String fileName(String fileUrl) {
+        try {
+            String path = URI.create(fileUrl).getPath();
+            return path == null ? null : path.substring(path.lastIndexOf('/') + 1);
+        } catch (IllegalArgumentException e) {
+            return null;
         }
     }
 
+    private void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.fine("임시 파일 삭제 실패: " + file);
+        }
+    }
+
+    // 시간 초과로 취소되면 파싱 중인 스레드와 별개로 호출됨 - 스트림을 닫아 파싱을 중단시킴
+    private void closeQuietly(InputStream input) {
+        try {
+            input.close();
+        } catch (IOException e) {
+            log.fine("입력 스트림 닫기 실패: " + e.getMessage());
+        }
+    }
 }
@@ -5,9 +5,14 @@ import org.example.feedbackservice.summary.model.dto.GitHubSummaryDTO;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
+import java.util.List;
 
 public interface GitHubService {
     Mono<GitHubSummaryDTO> summarizeProject(String url);
 
-    boolean isAfterLastCommit(String url, Instant time);
+    Mono<List<GitHubSummaryDTO>> summarizeProjects(List<String> urls);
+
+    Mono<Boolean> isAfterLastCommit(String url, Instant time);
+
+    Mono<Void> saveGithubSummary(GitHubSummaryDTO dto, String githubSummary);
 }
\ No newline at end of file
@@ -1,63 +1,220 @@
 package org.example.feedbackservice.summary.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.java.Log;
 import org.example.feedbackservice.common.exception.GitHubManagementException;
 import org.example.feedbackservice.llm.service.LLMSummaryService;
+import org.example.feedbackservice.summary.client.GitHubRequestMemo;
+import org.example.feedbackservice.summary.model.dto.FileAnalysis;
 import org.example.feedbackservice.summary.model.dto.GitHubSummaryDTO;
+import org.example.feedbackservice.summary.model.dto.GitTreeEntry;
 import org.example.feedbackservice.summary.service.analyzer.CodeAnalyzer;
+import org.example.feedbackservice.summary.service.github.AnalysisPlanner;
+import org.example.feedbackservice.summary.service.github.AnalysisPlanner.AnalysisPlan;
+import org.example.feedbackservice.summary.service.github.BlobAnalysisCache;
+import org.example.feedbackservice.summary.service.github.DirectoryTreeRenderer;
+import org.example.feedbackservice.summary.service.github.GitHubAnalysisStore;
+import org.example.feedbackservice.summary.service.github.GitHubRepositorySource;
+import org.example.feedbackservice.summary.service.github.LocalRepositorySource;
+import org.example.feedbackservice.summary.service.github.RepositoryArchiveReader;
+import org.example.feedbackservice.summary.service.github.RepositoryArchiveReader.ArchiveContents;
+import org.example.feedbackservice.summary.service.github.RepositorySource;
+import org.example.feedbackservice.summary.service.github.RepositoryTree;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
 import java.net.URI;
 import java.time.Instant;
-import java.util.Base64;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
 
 @Service
 @RequiredArgsConstructor
 @Log
 public class GitHubServiceImpl implements GitHubService {
 
+    private static final String INGESTION_ARCHIVE = "archive";
+    private static final String SOURCE_LOCAL = "local";
+    // 포트폴리오 단위 분석 예산을 나눠 쓰는 저장소 수 (Context 키)
+    private static final String BUDGET_SHARES = "github.budget.shares";
+    private static final String NO_DEFAULT_BRANCH = "기본 브랜치 없음";
+    private static final String DIRECTORY_TREE_FAILED = "디렉토리 구조 분석 실패";
+    private static final String WORKFLOW_DIR = ".github/workflows/";
+    private static final String TREE_TRUNCATED = "⚠️ 저장소 항목이 많아 트리 일부만 조회됨";
+    private static final String CODE_ANALYSIS_FAILED = "⚠️ 코드 분석 실패";
+    private static final String README_MISSING = "README 없음";
+    private static final String README_FAILED = "README 없음 또는 분석 실패";
+    private static final String CI_CD_FAILED = "CI/CD 없음 또는 분석 실패";
+    private static final String COMMITS_FAILED = "커밋 메시지 없음";
+    private static final String LANGUAGES_FAILED = "언어 정보 없음";
+
     private final LLMSummaryService llmSummaryService;
     private final CodeAnalyzer codeAnalyzer;
-
-    @Value("${github.token}")
-    private String gitHubToken;
+    private final RepositoryArchiveReader archiveReader;
+    private final GitHubAnalysisStore analysisStore;
+    private final BlobAnalysisCache blobAnalysisCache;
+    private final AnalysisPlanner analysisPlanner;
+    private final DirectoryTreeRenderer directoryTreeRenderer;
+    private final GitHubRepositorySource gitHubSource;
+    private final LocalRepositorySource localSource;
 
     private final ObjectMapper objectMapper;
 
-    private WebClient createWebClient() {
-        return WebClient.builder()
-                .baseUrl("https://api.github.com")
-                .defaultHeader("Accept", "application/vnd.github+json")
-                .defaultHeader("Authorization", "Bearer " + gitHubToken)
-                .build();
-    }
+    @Value("${github.analysis.concurrency:8}")
+    private int analysisConcurrency;
+
+    // 수집 방식: api (트리 + blob 조회) | archive (zipball 1회 다운로드)
+    @Value("${github.ingestion.mode:api}")
+    private String ingestionMode;
 
-    public boolean isAfterLastCommit(String url, Instant time) {
+    // 포트폴리오의 여러 저장소 동시 분석 수 / 분석할 최대 저장소 수
+    @Value("${github.portfolio.concurrency:3}")
+    private int portfolioConcurrency;
+
+    @Value("${github.portfolio.max-repositories:5}")
+    private int maxRepositories;
+
+    // 저장소 원천: github (GitHub API) | local (github.source.local.root 아래 git 저장소)
+    @Value("${github.source.mode:github}")
+    private String sourceMode;
+
+    public Mono<Boolean> isAfterLastCommit(String url, Instant time) {
         GitHubRepoInfo repoInfo = parseGitHubUrl(url);
-        Instant updatedAt = fetchUpdatedAt(repoInfo).block();
-        return updatedAt != null && updatedAt.isAfter(time);
+        return fetchUpdatedAt(repoInfo)
+                .map(updatedAt -> updatedAt.isAfter(time))
+                .contextWrite(GitHubRequestMemo::ensure);
     }
 
-    // 종합 정리 & LLM 요청용 DTO 생성
+    /**
+     * 종합 정리 & LLM 요청용 DTO 생성
+     * - 실행 단위 요청 메모를 Context에 두고 같은 GitHub 리소스는 한 번만 조회 (호출 측 메모가 있으면 공유)
+     */
     public Mono<GitHubSummaryDTO> summarizeProject(String url) {
         log.info("url = " + url);
         GitHubRepoInfo repoInfo = parseGitHubUrl(url);
 
-        Mono<String> directoryTree = fetchDirectoryTree(repoInfo);
+        // HEAD SHA가 이전 분석과 같으면 저장된 결과 재사용 (저장소 API 호출 생략)
+        return Mono.deferContextual(context -> getDefaultBranchSha(repoInfo)
+                        .flatMap(sha -> NO_DEFAULT_BRANCH.equals(sha)
+                                ? analyzeProject(repoInfo, sha, Map.of())
+                                : analysisStore.find(repoInfo.owner(), repoInfo.repo(), sha)
+                                        .switchIfEmpty(Mono.defer(() -> analyzeChangedProject(repoInfo, sha))))
+                        .doFinally(signal -> GitHubRequestMemo.current(context).ifPresent(memo ->
+                                log.fine("GitHub 요청 %s/%s: 발행 %d, 중복 제거 %d".formatted(repoInfo.owner(),
+                                        repoInfo.repo(), memo.issued(), memo.deduplicated())))))
+                .contextWrite(GitHubRequestMemo::ensure);
+    }
+
+    /**
+     * 포트폴리오의 GitHub 저장소 전체 분석
+     * - 같은 저장소(대소문자 무시)는 한 번만, 최대 max-repositories개를 동시 분석 수 제한 안에서 병렬 분석
+     * - 코드 분석 예산은 저장소 수로 나눠 공유, 요청 메모도 전체 실행에서 공유
+     * - 일부 저장소 실패는 제외하고 나머지 결과만 반환 (입력 순서 유지)
+     */
+    public Mono<List<GitHubSummaryDTO>> summarizeProjects(List<String> urls) {
+        Map<GitHubRepoInfo, String> repositories = new LinkedHashMap<>();
+        for (String url : urls) {
+            try {
+                GitHubRepoInfo repoInfo = parseGitHubUrl(url);
+                repositories.putIfAbsent(new GitHubRepoInfo(repoInfo.owner().toLowerCase(Locale.ROOT),
+                        repoInfo.repo().toLowerCase(Locale.ROOT)), url);
+            } catch (GitHubManagementException e) {
+                log.warning("GitHub URL 제외: " + url);
+            }
+        }
+        List<String> targets = repositories.values().stream().limit(maxRepositories).toList();
+        if (repositories.size() > targets.size()) {
+            log.warning("GitHub 저장소 %d개 중 %d개만 분석".formatted(repositories.size(), targets.size()));
+        }
+
+        return Flux.fromIterable(targets)
+                .flatMapSequential(url -> summarizeProject(url)
+                                .onErrorResume(e -> {
+                                    log.warning("저장소 분석 실패: " + url + " - " + e.getMessage());
+                                    return Mono.empty();
+                                }),
+                        portfolioConcurrency)
+                .collectList()
+                .contextWrite(context -> context.put(BUDGET_SHARES, Math.max(1, targets.size())))
+                .contextWrite(GitHubRequestMemo::ensure);
+    }
+
+    // 커밋이 바뀐 경우 - 가장 최근 분석과 blob SHA를 비교해 바뀐 파일만 다시 분석
+    private Mono<GitHubSummaryDTO> analyzeChangedProject(GitHubRepoInfo repoInfo, String headSha) {
+        return analysisStore.findLatest(repoInfo.owner(), repoInfo.repo())
+                .map(previous -> indexByBlobKey(previous.getFileAnalyses()))
+                .defaultIfEmpty(Map.of())
+                .flatMap(previous -> analyzeProject(repoInfo, headSha, previous))
+                .flatMap(dto -> isCacheable(dto) ? analysisStore.save(dto) : Mono.just(dto));
+    }
+
+    // LLM GitHub 요약 저장 (같은 커밋 재요청 시 LLM 호출 생략)
+    public Mono<Void> saveGithubSummary(GitHubSummaryDTO dto, String githubSummary) {
+        if (dto.getCommitSha() == null || NO_DEFAULT_BRANCH.equals(dto.getCommitSha())
+                || githubSummary == null || githubSummary.isBlank()) {
+            return Mono.empty();
+        }
+        return analysisStore.saveGithubSummary(dto, githubSummary);
+    }
+
+    // 저장소 분석 - 재귀 트리를 한 번 스트리밍하며 디렉토리 트라이 / 분석 후보 / 워크플로우를 함께 누적
+    private Mono<GitHubSummaryDTO> analyzeProject(GitHubRepoInfo repoInfo, String headSha,
+                                                  Map<String, FileAnalysis> previous) {
+        Mono<TreeScan> scan = scanTree(source().fetchTree(repoInfo.owner(), repoInfo.repo(), headSha));
+        Mono<AnalysisPlan> plan = Mono.deferContextual(context -> scan
+                        .map(result -> result.selection().plan(context.getOrDefault(BUDGET_SHARES, 1))))
+                .cache();
+
+        Mono<String> directoryTree = renderDirectoryTree(scan);
         Mono<String> languages = fetchLanguages(repoInfo);
-        Mono<String> codeSummary = analyzeCodeStructure(repoInfo, "");
-        Mono<String> readmeSummary = fetchAndSummarizeReadme(repoInfo);
         Mono<String> commitSummary = fetchRecentCommitMessage(repoInfo);
-        Mono<String> ciCd = analyzeCiCd(repoInfo);
+        Mono<CodeStructure> codeSummary;
+        Mono<String> readmeSummary;
+        Mono<String> ciCd;
+
+        if (INGESTION_ARCHIVE.equals(ingestionMode) && !isLocalSource()) {
+            // 아카이브 1회 다운로드로 코드 / README / 워크플로우 추출
+            // 분석 대상은 트리 기반 선정 결과 - 트리 조회 실패 시 경로 규칙(의존성 / 생성 코드 제외)만 적용
+            Predicate<String> candidates = analysisPlanner::isCandidate;
+            Mono<ArchiveContents> archive = plan
+                    .map(selected -> (Predicate<String>) selected.paths()::contains)
+                    .onErrorReturn(candidates)
+                    .flatMap(selected -> archiveReader.read(repoInfo.owner(), repoInfo.repo(), headSha, selected))
+                    .cache();
+            codeSummary = archive
+                    .zipWith(plan.map(AnalysisPlan::note).onErrorReturn(""))
+                    .map(tuple -> {
+                        ArchiveContents contents = tuple.getT1();
+                        String text = renderCodeStructure(contents.fileAnalyses()) + tuple.getT2();
+                        return new CodeStructure(contents.truncated()
+                                ? text + "⚠️ 아카이브 크기 상한 초과로 일부 파일 생략\n"
+                                : text, contents.fileAnalyses());
+                    })
+                    .onErrorResume(e -> {
+                        log.severe("코드 분석 실패: " + e.getMessage());
+                        return Mono.just(new CodeStructure(CODE_ANALYSIS_FAILED + ": " + repoInfo.repo(), null));
+                    });
+            readmeSummary = archive.mapNotNull(ArchiveContents::readme)
+                    .flatMap(this::summarizeMarkdown)
+                    .defaultIfEmpty(README_MISSING)
+                    .onErrorReturn(README_FAILED);
+            ciCd = archive.map(contents -> "CI/CD 워크플로우 파일: " + contents.workflows())
+                    .onErrorReturn(CI_CD_FAILED);
+        } else {
+            codeSummary = analyzeCodeStructure(repoInfo, plan, previous);
+            readmeSummary = fetchAndSummarizeReadme(repoInfo);
+            ciCd = analyzeCiCd(scan);
+        }
 
         return Mono.zip(
                         directoryTree, languages, codeSummary, readmeSummary, commitSummary, ciCd
@@ -65,9 +222,13 @@ public class GitHubServiceImpl implements GitHubService {
                 .publishOn(Schedulers.boundedElastic())
                 .map(tuple -> {
                     GitHubSummaryDTO dto = new GitHubSummaryDTO();
+                    dto.setOwner(repoInfo.owner());
+                    dto.setRepo(repoInfo.repo());
+                    dto.setCommitSha(headSha);
                     dto.setDirectoryTree(tuple.getT1());
                     dto.setLanguages(tuple.getT2());
-                    dto.setCodeStructure(tuple.getT3());
+                    dto.setCodeStructure(tuple.getT3().text());
+                    dto.setFileAnalyses(tuple.getT3().fileAnalyses());
                     dto.setReadmeSummary(tuple.getT4());
                     dto.setCommitSummary(tuple.getT5());
                     dto.setCiCd(tuple.getT6());
@@ -76,118 +237,132 @@ public class GitHubServiceImpl implements GitHubService {
                 });
     }
 
-    // 디렉토리 구조 분석 - 트리 재귀 탐색
-    private Mono<String> fetchDirectoryTree(GitHubRepoInfo repoInfo) {
-        return getDefaultBranchSha(repoInfo)
-                .flatMap(sha -> createWebClient().get()
-                        .uri("/repos/{owner}/{repo}/git/trees/{sha}?recursive=true",
-                                repoInfo.owner(), repoInfo.repo(), sha)
-                        .retrieve()
-                        .bodyToMono(JsonNode.class)
-                        .map(node -> {
-                            StringBuilder sb = new StringBuilder();
-                            for (JsonNode item : node.get("tree")) {
-                                String path = item.get("path").asText();
-                                String type = item.get("type").asText();
-                                if ("tree".equals(type)) {
-                                    sb.append("📁 ").append(path).append("\n");
-                                } else {
-                                    sb.append("📄 ").append(path).append("\n");
-                                }
-                            }
-                            return sb.toString();
-                        }))
-                .onErrorReturn("디렉토리 구조 분석 실패");
+    // 분석 실패(대체 문구)가 하나라도 포함된 결과는 저장하지 않음 - 다음 요청에서 다시 분석
+    // 파일 단위 실패(읽기 실패 / 분석 시간 초과)는 SHA 없이 기록되므로 SHA가 없는 파일이 있으면 제외
+    private boolean isCacheable(GitHubSummaryDTO dto) {
+        return !DIRECTORY_TREE_FAILED.equals(dto.getDirectoryTree())
+                && !dto.getCodeStructure().startsWith(CODE_ANALYSIS_FAILED)
+                && (dto.getFileAnalyses() == null || dto.getFileAnalyses().stream().allMatch(file -> file.sha() != null))
+                && !README_FAILED.equals(dto.getReadmeSummary())
+                && !LLMSummaryService.README_SUMMARY_FAILED.equals(dto.getReadmeSummary())
+                && !CI_CD_FAILED.equals(dto.getCiCd())
+                && !COMMITS_FAILED.equals(dto.getCommitSummary())
+                && !LANGUAGES_FAILED.equals(dto.getLanguages());
+    }
+
+    /**
+     * 재귀 트리 1회 구독 - 항목이 도착하는 대로 트라이 / 분석 후보 / 워크플로우에 누적 (트리 목록 전체는 보관하지 않음)
+     * - 누적 결과만 cache해 디렉토리 구조 / 분석 대상 선정 / CI/CD에서 공유
+     * - truncated는 항목 스트림이 끝난 뒤에 확인
+     */
+    private Mono<TreeScan> scanTree(RepositoryTree tree) {
+        return tree.entries()
+                .reduceWith(() -> new TreeScan(new DirectoryTreeRenderer.Node(), analysisPlanner.selection(),
+                        new ArrayList<>()), TreeScan::add)
+                .flatMap(result -> tree.truncated().map(result::withTruncated))
+                .cache();
+    }
+
+    // 디렉토리 구조 분석 - 트라이를 압축 표현으로 출력
+    private Mono<String> renderDirectoryTree(Mono<TreeScan> scan) {
+        return scan
+                .map(result -> {
+                    String text = directoryTreeRenderer.render(result.root());
+                    return result.truncated() ? text + TREE_TRUNCATED + "\n" : text;
+                })
+                .onErrorReturn(DIRECTORY_TREE_FAILED);
     }
 
     // 기본 브랜치의 SHA 가져오기
     private Mono<String> getDefaultBranchSha(GitHubRepoInfo repoInfo) {
-        return createWebClient().get()
-                .uri("/repos/{owner}/{repo}", repoInfo.owner(), repoInfo.repo())
-                .retrieve()
-                .bodyToMono(JsonNode.class)
-                .flatMap(json -> {
-                    String defaultBranch = json.get("default_branch").asText();
-                    return createWebClient().get()
-                            .uri("/repos/{owner}/{repo}/branches/{branch}",
-                                    repoInfo.owner(), repoInfo.repo(), defaultBranch)
-                            .retrieve()
-                            .bodyToMono(JsonNode.class)
-                            .map(branch -> branch.get("commit").get("sha").asText());
-                })
-                .onErrorReturn("기본 브랜치 없음");
-    }
-
-    // 코드 분석
-    private Mono<String> analyzeCodeStructure(GitHubRepoInfo repoInfo, String path) {
-        return createWebClient().get()
-                .uri("/repos/{owner}/{repo}/contents/{path}",
-                        repoInfo.owner(), repoInfo.repo(), path)
-                .retrieve()
-                .bodyToMono(JsonNode[].class)
-                .flatMapMany(Flux::fromArray) // JsonNode[] -> Flux<JsonNode>
-                .flatMap(node -> {
-                    String type = node.get("type").asText();
-                    String filePath = node.get("path").asText();
-
-                    if ("file".equals(type)) {
-                        // 파일 분석
-                        return fetchFileContent(repoInfo, filePath)
-                                .map(content -> {
-                                    String analysis = codeAnalyzer.analyzeFile(filePath, content);
-                                    return "🔍 파일: " + filePath + "\n분석 결과:\n" + analysis + "\n\n";
-                                });
-                    } else if ("dir".equals(type)) {
-                        // 디렉토리 재귀 탐색
-                        return analyzeCodeStructure(repoInfo, filePath)
-                                .map(subAnalysis -> "📂 디렉토리: " + filePath + "\n" + subAnalysis);
-                    }
-                    return Mono.empty();
-                })
+        return source().fetchHeadSha(repoInfo.owner(), repoInfo.repo())
+                .defaultIfEmpty(NO_DEFAULT_BRANCH)
+                .onErrorReturn(NO_DEFAULT_BRANCH);
+    }
+
+    private RepositorySource source() {
+        return isLocalSource() ? localSource : gitHubSource;
+    }
+
+    private boolean isLocalSource() {
+        return SOURCE_LOCAL.equals(sourceMode);
+    }
+
+    /**
+     * 코드 분석 - 분석 대상으로 선정된 파일만 blob 조회 (동시 요청 수 제한)
+     * - 이전 분석에 같은 blob SHA / 확장자가 있으면 재사용 (추가/수정된 파일만 조회 및 분석, 삭제된 파일은 제외)
+     * - 다른 저장소에서 이미 분석한 blob도 SHA 캐시에서 재사용
+     */
+    private Mono<CodeStructure> analyzeCodeStructure(GitHubRepoInfo repoInfo, Mono<AnalysisPlan> plan,
+                                                     Map<String, FileAnalysis> previous) {
+        return plan.flatMap(selected -> Flux.fromIterable(selected.files())
+                .flatMapSequential(entry -> {
+                            FileAnalysis unchanged = previous.get(blobAnalysisCache.keyOf(entry.sha(), entry.path()));
+                            if (unchanged != null) {
+                                return Mono.just(new FileAnalysis(entry.path(), entry.sha(), unchanged.analysis()));
+                            }
+                            return blobAnalysisCache.get(entry.sha(), entry.path())
+                                    .map(analysis -> Mono.just(new FileAnalysis(entry.path(), entry.sha(), analysis)))
+                                    .orElseGet(() -> analyzeBlob(repoInfo, entry));
+                        },
+                        analysisConcurrency)
                 .collectList()
-                .map(list -> String.join("", list))
+                .doOnNext(files -> log.info("코드 분석 %s/%s: 전체 %d, 재사용 %d".formatted(repoInfo.owner(), repoInfo.repo(),
+                        files.size(), files.stream().filter(file -> file.sha() != null
+                                && previous.containsKey(blobAnalysisCache.keyOf(file.sha(), file.path()))).count())))
+                .map(files -> new CodeStructure(renderCodeStructure(files) + selected.note(), files)))
                 .onErrorResume(e -> {
                     log.severe("코드 분석 실패: " + e.getMessage());
-                    return Mono.just("⚠️ 코드 분석 실패: " + path);
+                    return Mono.just(new CodeStructure(CODE_ANALYSIS_FAILED + ": " + repoInfo.repo(), null));
                 });
     }
 
-    // 파일 내용 base64 디코딩
-    private Mono<String> fetchFileContent(GitHubRepoInfo repoInfo, String path) {
-        return createWebClient().get()
-                .uri("/repos/{owner}/{repo}/contents/{path}", repoInfo.owner(), repoInfo.repo(), path)
-                .retrieve()
-                .bodyToMono(JsonNode.class)
-                .map(json -> json.get("content").asText())
-                .map(Base64.getMimeDecoder()::decode)
-                .map(String::new)
-                .onErrorReturn("파일 읽기 실패");
-    }
-
-    // CI/CD 파이프라인 분석
-    private Mono<String> analyzeCiCd(GitHubRepoInfo repoInfo) {
-        return createWebClient().get()
-                .uri("/repose/{owner}/{repo}/contents/.github/workflows", repoInfo.owner(), repoInfo.repo())
-                .retrieve()
-                .bodyToMono(JsonNode.class)
-                .flatMapMany(Flux::fromIterable)
-                .map(node -> node.get("name").asText())
-                .collectList()
-                .map(workflow -> "CI/CD 워크플로우 파일: " + workflow)
-                .onErrorReturn("CI/CD 없음 또는 분석 실패");
+    // 파일 단위 분석 (전용 분석 풀) - 실패 시 SHA 없이 기록 (다음 분석에서 재사용되지 않도록)
+    private Mono<FileAnalysis> analyzeBlob(GitHubRepoInfo repoInfo, GitTreeEntry entry) {
+        return source().fetchBlob(repoInfo.owner(), repoInfo.repo(), entry.sha())
+                .flatMap(content -> codeAnalyzer.analyzeFileAsync(entry.path(), content))
+                .map(analysis -> new FileAnalysis(entry.path(), entry.sha(), analysis))
+                .doOnNext(file -> blobAnalysisCache.put(file.sha(), file.path(), file.analysis()))
+                .onErrorResume(e -> Mono.just(new FileAnalysis(entry.path(), null,
+                        e instanceof TimeoutException ? "분석 시간 초과" : "파일 읽기 실패")));
+    }
+
+    // 선언이 없는 파일(빈 분석 결과)은 프롬프트에서 제외
+    private String renderCodeStructure(List<FileAnalysis> files) {
+        StringBuilder sb = new StringBuilder();
+        for (FileAnalysis file : files) {
+            if (file.analysis() == null || file.analysis().isBlank()) {
+                continue;
+            }
+            sb.append("🔍 파일: ").append(file.path()).append("\n분석 결과:\n").append(file.analysis()).append("\n\n");
+        }
+        return sb.toString();
+    }
+
+    // 이전 분석의 파일별 결과를 blob 캐시와 같은 키(분석기 버전 + blob SHA + 확장자)로 색인
+    private Map<String, FileAnalysis> indexByBlobKey(List<FileAnalysis> files) {
+        Map<String, FileAnalysis> index = new HashMap<>();
+        if (files != null) {
+            files.stream()
+                    .filter(file -> file.sha() != null)
+                    .forEach(file -> index.put(blobAnalysisCache.keyOf(file.sha(), file.path()), file));
+        }
+        return index;
+    }
+
+    // CI/CD 파이프라인 분석 - 트리에서 워크플로우 파일 목록 추출 (contents API 추가 호출 없음)
+    private Mono<String> analyzeCiCd(Mono<TreeScan> scan) {
+        return scan
+                .map(result -> "CI/CD 워크플로우 파일: " + result.workflows())
+                .onErrorReturn(CI_CD_FAILED);
     }
 
     // README 요약
     private Mono<String> fetchAndSummarizeReadme(GitHubRepoInfo repoInfo) {
-        return createWebClient().get()
-                .uri("/repose/{owner}/{repo}/readme", repoInfo.owner(), repoInfo.repo())
-                .retrieve()
-                .bodyToMono(JsonNode.class)
-                .map(json -> json.get("content").asText())
-                .map(Base64.getMimeDecoder()::decode)
-                .map(String::new)
+        return source().fetchReadme(repoInfo.owner(), repoInfo.repo())
                 .flatMap(this::summarizeMarkdown)
-                .onErrorReturn("README 없음 또는 분석 실패");
+                .defaultIfEmpty(README_MISSING)
+                .onErrorReturn(README_FAILED);
     }
 
     // 마크다운 요약
@@ -197,40 +372,26 @@ public class GitHubServiceImpl implements GitHubService {
 
     // 커밋 메시지 분석
     private Mono<String> fetchRecentCommitMessage(GitHubRepoInfo repoInfo) {
-        return createWebClient().get()
-                .uri("/repos/{owner}/{repo}/commits", repoInfo.owner(), repoInfo.repo())
-                .retrieve()
-                .bodyToMono(JsonNode.class)
-                .map(json -> {
+        return source().fetchCommitMessages(repoInfo.owner(), repoInfo.repo())
+                .map(messages -> {
                     StringBuilder sb = new StringBuilder();
-                    for (JsonNode commit : json) {
-                        sb.append("♦︎ ").append(commit.get("commit").get("message").asText()).append("\n");
+                    for (String message : messages) {
+                        sb.append("♦︎ ").append(message).append("\n");
                     }
                     return sb.toString();
                 })
-                .onErrorReturn("커밋 메시지 없음");
+                .onErrorReturn(COMMITS_FAILED);
     }
 
     // 마지막 커밋 시간
     private Mono<Instant> fetchUpdatedAt(GitHubRepoInfo repoInfo) {
-        return createWebClient().get()
-                .uri("/repos/{owner}/{repo}", repoInfo.owner(), repoInfo.repo())
-                .retrieve()
-                .bodyToMono(Map.class)
-                .map(response -> {
-                    String updatedAt = (String) response.get("updated_at");
-                    return Instant.parse(updatedAt);
-                });
+        return source().fetchUpdatedAt(repoInfo.owner(), repoInfo.repo());
     }
 
     // 언어 정보
     private Mono<String> fetchLanguages(GitHubRepoInfo repoInfo) {
-        return createWebClient().get()
-                .uri("/repos/{owner}/{repo}/languages", repoInfo.owner(), repoInfo.repo())
-                .retrieve()
-                .bodyToMono(JsonNode.class)
-                .map(JsonNode::toPrettyString)
-                .onErrorReturn("언어 정보 없음");
+        return source().fetchLanguages(repoInfo.owner(), repoInfo.repo())
+                .onErrorReturn(LANGUAGES_FAILED);
     }
 
     // 깃허브 URL 파싱
@@ -245,6 +406,37 @@ public class GitHubServiceImpl implements GitHubService {
         }
     }
 
+    private record CodeStructure(
+            String text,
+            List<FileAnalysis> fileAnalyses
+    ) {
+    }
+
+    // 재귀 트리 1회 순회 결과 (root / selection / workflows는 순회 중 누적)
+    private record TreeScan(
+            DirectoryTreeRenderer.Node root,
+            AnalysisPlanner.Selection selection,
+            List<String> workflows,
+            boolean truncated
+    ) {
+        TreeScan(DirectoryTreeRenderer.Node root, AnalysisPlanner.Selection selection, List<String> workflows) {
+            this(root, selection, workflows, false);
+        }
+
+        TreeScan add(GitTreeEntry entry) {
+            root.add(entry);
+            selection.add(entry);
+            if (entry.isBlob() && entry.path().startsWith(WORKFLOW_DIR)) {
+                workflows.add(entry.path().substring(WORKFLOW_DIR.length()));
+            }
+            return this;
+        }
+
+        TreeScan withTruncated(boolean truncated) {
+            return new TreeScan(root, selection, workflows, truncated);
+        }
+    }
+
     public record GitHubRepoInfo(
             String owner,
             String repo
@@ -4,23 +4,29 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.java.Log;
 import org.example.feedbackservice.common.exception.SummaryNotFoundException;
 import org.example.feedbackservice.llm.service.LLMSummaryService;
+import org.example.feedbackservice.summary.client.GitHubRequestMemo;
+import org.example.feedbackservice.summary.model.dto.GitHubSummaryDTO;
 import org.example.feedbackservice.summary.model.dto.SummaryRequest;
 import org.example.feedbackservice.summary.model.dto.SummaryResponse;
 import org.example.feedbackservice.summary.model.dto.SummaryStatusResponse;
 import org.example.feedbackservice.summary.model.entity.PortfolioSummary;
 import org.example.feedbackservice.summary.model.entity.SummaryStatus;
 import org.example.feedbackservice.summary.model.repository.PortfolioSummaryRepository;
+import org.example.feedbackservice.summary.service.file.ExtractedText;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
 
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
@@ -39,6 +45,7 @@ public class SummaryServiceImpl implements SummaryService {
      * - 트랜잭션 범위: DB 상태 변경까지 포함
      * - rollbackFor: 모든 예외 발생 시 롤백
      * - Reactor 스케줄러와의 충돌 방지를 위해 트랜잭션 분리
+     * - 파일 텍스트 추출은 트랜잭션 밖 비동기 분석 단계에서 실행 (요청 스레드 / DB 커넥션을 잡고 있지 않음)
      */
     @Transactional(rollbackFor = Exception.class)
     public void handleSummary(SummaryRequest request) {
@@ -71,16 +78,44 @@ public class SummaryServiceImpl implements SummaryService {
     public void checkGitHubUpdate(SummaryRequest request) {
         // 깃허브 링크 유무 확인
         PortfolioSummary summary = summaryRepository.findByPortfolioId(request.portfolioId());
+        // 갱신 확인과 재분석이 같은 요청 메모 공유 (저장소 정보 1회 조회)
+        GitHubRequestMemo memo = new GitHubRequestMemo();
 
-        request.urls().stream()
-                .filter(url -> url != null && url.contains("github.com"))
-                .findFirst()
-                .map(url -> gitHubService.isAfterLastCommit(url, summary.getCreatedAt().toInstant()))
-                .ifPresent(isAfterLastCommit -> {
-                    if (isAfterLastCommit) {
-                        // 깃허브 분석 및 요약 프로세스
-                    }
-                });
+        // 저장소 중 하나라도 마지막 분석 이후 갱신되었으면 전체 재분석
+        Boolean isAfterLastCommit = Flux.fromIterable(githubUrls(request.urls()))
+                .flatMap(url -> gitHubService.isAfterLastCommit(url, summary.getCreatedAt().toInstant())
+                        .onErrorReturn(false))
+                .any(Boolean::booleanValue)
+                .contextWrite(memo::bind)
+                .block();
+        if (Boolean.TRUE.equals(isAfterLastCommit)) {
+            // 깃허브 분석 및 요약 프로세스
+            refreshGithubSummary(summary, request, memo);
+        }
+    }
+
+    /**
+     * GitHub 요약 갱신
+     * - HEAD 커밋이 이전 분석과 같으면 저장된 분석 / LLM 요약 재사용
+     * - 기존 파일 요약과 합쳐 최종 요약 재생성
+     */
+    private void refreshGithubSummary(PortfolioSummary summary, SummaryRequest request, GitHubRequestMemo memo) {
+        log.info("refreshGithubSummary : " + summary.getPortfolioId());
+        extractGithubSummaries(request.urls())
+                .flatMap(githubSummaries -> processGithubData(summary, githubSummaries))
+                .flatMap(githubSummary -> generateFinalSummary(request.description(), githubSummary,
+                        Objects.requireNonNullElse(summary.getFileSummary(), "")))
+                .doOnSuccess(finalSummary -> updateSummaryStatus(
+                        summary.getId(),
+                        SummaryStatus.COMPLETED,
+                        s -> {
+                            s.setFinalSummary(finalSummary);
+                            s.setCreatedAt(ZonedDateTime.now(ZoneOffset.UTC)); // 다음 갱신 확인 기준 시각
+                        }))
+                .doOnError(error -> failSummary(summary, error))
+                .contextWrite(memo::bind)
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe();
     }
 
     /**
@@ -90,10 +125,10 @@ public class SummaryServiceImpl implements SummaryService {
      */
     private void startAsyncAnalysis(PortfolioSummary summary, AnalysisData data) {
         log.info("startAsyncAnalysis");
-        extractGithubTexts(data.githubUrls)
-                .flatMap(githubTexts ->
+        extractGithubSummaries(data.githubUrls)
+                .flatMap(githubSummaries ->
                         Mono.zip(
-                                processGithubData(summary, githubTexts),
+                                processGithubData(summary, githubSummaries),
                                 processFileData(summary, data.fileUrls)
                         )
                 )
@@ -173,9 +208,13 @@ public class SummaryServiceImpl implements SummaryService {
 
     /**
      * 파일 데이터 요약
+     * - 추출 텍스트(문자 예산 이내)는 요청 직전에만 읽고, 요약이 끝나면 임시 파일 삭제
      */
-    private Mono<String> processFileData(PortfolioSummary portfolioSummary, List<String> texts) {
-        return llmSummaryService.summarizeFileText(texts)
+    private Mono<String> processFileData(PortfolioSummary portfolioSummary, List<String> fileUrls) {
+        return extractFileTexts(fileUrls)
+                .flatMap(texts -> Mono.defer(() -> llmSummaryService.summarizeFileText(
+                                texts.stream().map(ExtractedText::content).toList()))
+                        .doFinally(signal -> texts.forEach(ExtractedText::discard)))
                 .publishOn(Schedulers.boundedElastic())
                 .doOnSuccess(summary -> {
                     log.info("fileSummary = " + summary);
@@ -187,9 +226,10 @@ public class SummaryServiceImpl implements SummaryService {
 
     /**
      * GitHub 데이터 요약
+     * - 같은 커밋의 LLM 요약이 저장되어 있으면 재사용
      */
-    private Mono<String> processGithubData(PortfolioSummary portfolioSummary, List<String> texts) {
-        return llmSummaryService.summarizeGithubText(texts)
+    private Mono<String> processGithubData(PortfolioSummary portfolioSummary, List<GitHubSummaryDTO> githubSummaries) {
+        return summarizeGithub(githubSummaries)
                 .publishOn(Schedulers.boundedElastic())
                 .doOnSuccess(summary -> {
                     log.info("gitHubSummary = " + summary);
@@ -199,6 +239,43 @@ public class SummaryServiceImpl implements SummaryService {
                 });
     }
 
+    /**
+     * 저장소별 요약을 병렬로 만든 뒤 하나의 요약으로 합침 (저장소가 하나면 그 요약 그대로)
+     * - 같은 커밋의 LLM 요약이 저장되어 있으면 재사용
+     */
+    private Mono<String> summarizeGithub(List<GitHubSummaryDTO> githubSummaries) {
+        if (githubSummaries.isEmpty()) {
+            return llmSummaryService.summarizeGithubText(Collections.emptyList());
+        }
+        // 요약이 비어 끝난 저장소가 있어도 순번이 밀리지 않도록 저장소와 요약을 함께 전달
+        return Flux.fromIterable(githubSummaries)
+                .flatMapSequential(dto -> Mono.just(dto).zipWith(summarizeRepository(dto)))
+                .collectList()
+                .map(summaries -> {
+                    if (summaries.size() == 1) {
+                        return summaries.get(0).getT2();
+                    }
+                    StringBuilder digest = new StringBuilder();
+                    for (Tuple2<GitHubSummaryDTO, String> summary : summaries) {
+                        GitHubSummaryDTO dto = summary.getT1();
+                        digest.append("[저장소 %s/%s]\n".formatted(dto.getOwner(), dto.getRepo()))
+                                .append(summary.getT2()).append("\n\n");
+                    }
+                    return digest.toString();
+                });
+    }
+
+    private Mono<String> summarizeRepository(GitHubSummaryDTO dto) {
+        if (dto.getFinalSummary() != null) {
+            return Mono.just(dto.getFinalSummary());
+        }
+        // 저장(JPA)은 GitHubAnalysisStore에서 boundedElastic으로 실행 - LLM 응답 스레드를 막지 않음
+        return llmSummaryService.summarizeGithubText(toGithubTexts(dto))
+                .flatMap(summary -> LLMSummaryService.GITHUB_SUMMARY_FAILED.equals(summary)
+                        ? Mono.just(summary)
+                        : gitHubService.saveGithubSummary(dto, summary).thenReturn(summary));
+    }
+
     /**
      * 분석 중단 처리
      */
@@ -215,7 +292,7 @@ public class SummaryServiceImpl implements SummaryService {
         return new AnalysisData(
                 request.description(),
                 request.urls(),
-                extractFileTexts(request.fileUrls())
+                request.fileUrls()
         );
     }
 
@@ -234,42 +311,52 @@ public class SummaryServiceImpl implements SummaryService {
     }
 
     /**
-     * 파일 텍스트 추출 (읽기 전용)
+     * 파일 텍스트 추출 - 전용 추출 풀에서 파일별 병렬 실행
      */
-    @Transactional(readOnly = true)
-    protected List<String> extractFileTexts(List<String> fileUrls) {
-        log.info("extractFileTexts : " + fileUrls.toString());
+    private Mono<List<ExtractedText>> extractFileTexts(List<String> fileUrls) {
         // 파일이 있는지 확인
         if (fileUrls == null || fileUrls.isEmpty()) {
-            return Collections.emptyList();
+            return Mono.just(Collections.emptyList());
         }
+        log.info("extractFileTexts : " + fileUrls);
         return fileReadService.extractTextsFromFiles(fileUrls);
     }
 
     /**
-     * GitHub 텍스트 추출 (읽기 전용)
+     * GitHub 분석 결과 추출 (읽기 전용)
+     * - 모든 GitHub URL을 동시에 분석 (전체 소요 시간 ≈ 가장 느린 저장소)
      */
     @Transactional(readOnly = true)
-    protected Mono<List<String>> extractGithubTexts(List<String> urls) {
-        if (urls == null || urls.isEmpty()) {
+    protected Mono<List<GitHubSummaryDTO>> extractGithubSummaries(List<String> urls) {
+        List<String> githubUrls = githubUrls(urls);
+        if (githubUrls.isEmpty()) {
             return Mono.just(Collections.emptyList());
         }
+        return gitHubService.summarizeProjects(githubUrls);
+    }
+
+    private List<String> githubUrls(List<String> urls) {
+        if (urls == null) {
+            return Collections.emptyList();
+        }
         return urls.stream()
                 .filter(url -> url != null && url.contains("github.com"))
-                .findFirst()
-                .map(url -> gitHubService.summarizeProject(url)
-                        .map(dto -> {
-                            List<String> result = new ArrayList<>();
-                            result.add("[디렉터리 구조] %s".formatted(dto.getDirectoryTree()));
-                            result.add("[언어 구조] %s".formatted(dto.getLanguages()));
-                            result.add("[코드 구조] %s".formatted(dto.getCodeStructure()));
-                            result.add("[README 요약] %s".formatted(dto.getReadmeSummary()));
-                            result.add("[최근 커밋] %s".formatted(dto.getCommitSummary()));
-                            result.add("[CI/CD] %s".formatted(dto.getCiCd()));
-                            log.info("result = " + result);
-                            return result;
-                        }))
-                .orElse(Mono.just(Collections.emptyList()));
+                .toList();
+    }
+
+    /**
+     * GitHub 분석 결과 -> LLM 요청 텍스트
+     */
+    private List<String> toGithubTexts(GitHubSummaryDTO dto) {
+        List<String> result = new ArrayList<>();
+        result.add("[디렉터리 구조] %s".formatted(dto.getDirectoryTree()));
+        result.add("[언어 구조] %s".formatted(dto.getLanguages()));
+        result.add("[코드 구조] %s".formatted(dto.getCodeStructure()));
+        result.add("[README 요약] %s".formatted(dto.getReadmeSummary()));
+        result.add("[최근 커밋] %s".formatted(dto.getCommitSummary()));
+        result.add("[CI/CD] %s".formatted(dto.getCiCd()));
+        log.info("result = " + result);
+        return result;
     }
 
     private record AnalysisData(String description, List<String> githubUrls, List<String> fileUrls) {
@@ -0,0 +1,387 @@
+package org.example.feedbackservice.summary.service.analyzer;
+
+import org.example.feedbackservice.summary.service.analyzer.SourceOutline.Kind;
+import org.example.feedbackservice.summary.service.analyzer.SourceScanner.Token;
+
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.Set;
+
+/**
+ * 중괄호 블록 언어 공통 분석기 (Java, Kotlin, C#, Go, Rust, Swift, JS/TS)
+ * - 토큰을 한 번만 읽으면서 중괄호 깊이로 타입 본문 / 메서드 본문을 구분
+ * - 선언은 최상위(또는 namespace 같은 컨테이너)와 타입 본문에서만 인식 - 메서드 본문 내부는 건너뜀
+ * - 언어별 차이(타입 키워드, 함수 키워드, 접근 제어자, 임포트 문법)는 하위 클래스에서 재정의
+ */
+public abstract class BlockStructureAnalyzer implements SourceFileAnalyzer {
+
+    // 타입 본문에서 '(' 앞에 오더라도 메서드 이름이 아닌 키워드
+    private static final Set<String> NOT_METHOD_NAMES = Set.of(
+            "if", "for", "foreach", "while", "switch", "catch", "return", "new", "synchronized",
+            "using", "lock", "typeof", "sizeof", "nameof", "super", "this", "throw", "await", "function");
+
+    @Override
+    public SourceOutline outline(String content) {
+        Context context = new Context(new SourceScanner(content, syntax()));
+        context.run();
+        return context.outline;
+    }
+
+    protected abstract SourceScanner.Syntax syntax();
+
+    // 타입 선언 키워드 (다음 식별자가 타입 이름)
+    protected Kind typeKind(SourceScanner scanner) {
+        if (scanner.is("class")) {
+            return Kind.CLASS;
+        }
+        if (scanner.is("interface")) {
+            return Kind.INTERFACE;
+        }
+        if (scanner.is("enum")) {
+            return Kind.ENUM;
+        }
+        return null;
+    }
+
+    protected boolean isVisibility(SourceScanner scanner) {
+        return scanner.is("public") || scanner.is("private") || scanner.is("protected");
+    }
+
+    protected boolean isImport(SourceScanner scanner) {
+        return scanner.is("import");
+    }
+
+    // 함수 선언 키워드 (function, fun, func, fn)
+    protected boolean isFunctionKeyword(SourceScanner scanner) {
+        return false;
+    }
+
+    // 본문이 최상위처럼 취급되는 블록 키워드 (namespace, mod)
+    protected boolean isContainer(SourceScanner scanner) {
+        return false;
+    }
+
+    // 타입 본문의 "이름(" 을 메서드 선언으로 인식 (Java, C#, JS 클래스)
+    protected boolean cStyleMethods() {
+        return true;
+    }
+
+    // 세미콜론 생략 가능 언어 - 줄바꿈을 문장 끝으로 취급
+    protected boolean semicolonOptional() {
+        return false;
+    }
+
+    protected String visibilityOf(String name, String declared) {
+        return declared;
+    }
+
+    protected boolean isConstructor(String name, String typeName) {
+        return name.equals(typeName);
+    }
+
+    // 언어별 선언 처리 - 처리했으면 true
+    protected boolean onIdentifier(Context context) {
+        return false;
+    }
+
+    // 타입 본문의 "이름 =" (필드 초기화)
+    protected void onMemberAssign(Context context, String name) {
+    }
+
+    protected final class Context {
+
+        private final SourceScanner scanner;
+        private final SourceOutline outline = new SourceOutline();
+
+        private final BitSet typeBodies = new BitSet();
+        private final BitSet containerBodies = new BitSet();
+        private final BitSet enumConstants = new BitSet();
+        private final Deque<String> typeNames = new ArrayDeque<>();
+
+        private int depth;
+        private int parenDepth;
+        private String visibility;
+        private boolean inInitializer;
+
+        private boolean pendingBody;
+        private boolean pendingContainer;
+        private Kind pendingKind;
+        private String pendingName;
+
+        private int lastIdentStart = -1;
+        private int lastIdentEnd;
+
+        private Context(SourceScanner scanner) {
+            this.scanner = scanner;
+        }
+
+        public SourceScanner scanner() {
+            return scanner;
+        }
+
+        public boolean atTopLevel() {
+            return depth == 0 || containerBodies.get(depth);
+        }
+
+        public boolean atTypeBody() {
+            return typeBodies.get(depth);
+        }
+
+        public void declare(Kind kind, String name) {
+            outline.add(kind, name, visibilityOf(name, visibility), typeNames.size());
+            visibility = null;
+            lastIdentStart = -1;
+        }
+
+        // 타입 선언 - 다음 '{' 가 타입 본문
+        public void declareType(Kind kind, String name) {
+            declare(kind, name);
+            pendingBody = true;
+            pendingKind = kind;
+            pendingName = name;
+        }
+
+        public void addImport(String name) {
+            outline.addImport(name);
+        }
+
+        private void run() {
+            for (Token token = scanner.next(); token != Token.EOF; token = scanner.next()) {
+                if (semicolonOptional() && scanner.firstOnLine() && parenDepth == 0
+                        && (atTopLevel() || atTypeBody())
+                        && (token == Token.IDENTIFIER || scanner.isSymbol('@') || scanner.isSymbol('#'))) {
+                    inInitializer = false;
+                    visibility = null;
+                }
+                switch (token) {
+                    case IDENTIFIER -> identifier();
+                    case SYMBOL -> symbol();
+                    default -> lastIdentStart = -1;
+                }
+            }
+        }
+
+        private void identifier() {
+            if (parenDepth == 0 && !inInitializer && (atTopLevel() || atTypeBody())) {
+                if (atTopLevel() && isImport(scanner)) {
+                    readImport();
+                    return;
+                }
+                if (isVisibility(scanner)) {
+                    visibility = scanner.text();
+                    lastIdentStart = -1;
+                    return;
+                }
+                if (isContainer(scanner)) {
+                    pendingContainer = true;
+                    lastIdentStart = -1;
+                    return;
+                }
+                Kind kind = typeKind(scanner);
+                if (kind != null) {
+                    if (scanner.next() == Token.IDENTIFIER) {
+                        declareType(kind, scanner.text());
+                    } else {
+                        scanner.pushBack();
+                    }
+                    return;
+                }
+                if (isFunctionKeyword(scanner)) {
+                    declareFunction();
+                    return;
+                }
+                if (onIdentifier(this)) {
+                    lastIdentStart = -1;
+                    return;
+                }
+            }
+            lastIdentStart = scanner.start();
+            lastIdentEnd = scanner.end();
+        }
+
+        private void symbol() {
+            boolean declarationLevel = atTypeBody() && parenDepth == 0 && !inInitializer;
+            switch (scanner.symbol()) {
+                case '(' -> {
+                    if (cStyleMethods() && declarationLevel && lastIdentStart >= 0 && !enumConstants.get(depth)) {
+                        declareMethod();
+                        scanner.skipBalanced('(', ')');
+                    } else {
+                        parenDepth++;
+                    }
+                }
+                case '<' -> {
+                    if (declarationLevel && lastIdentStart >= 0) {
+                        scanner.skipBalanced('<', '>'); // 제네릭 인자 - 직전 식별자 유지 (Foo<T>( )
+                        return;
+                    }
+                }
+                case '=' -> {
+                    if (declarationLevel) {
+                        if (lastIdentStart >= 0) {
+                            onMemberAssign(this, scanner.text(lastIdentStart, lastIdentEnd));
+                        }
+                        visibility = null;
+                        inInitializer = true;
+                    }
+                }
+                case ')' -> parenDepth = Math.max(0, parenDepth - 1);
+                case '{' -> openBlock();
+                case '}' -> closeBlock();
+                case ';' -> {
+                    if (parenDepth == 0 && (atTopLevel() || atTypeBody())) {
+                        inInitializer = false;
+                        visibility = null;
+                        pendingBody = false;
+                        pendingContainer = false;
+                        enumConstants.clear(depth);
+                    }
+                }
+                case '@' -> skipAnnotation();
+                case '[' -> {
+                    if (declarationLevel) {
+                        scanner.skipBalanced('[', ']'); // C# 특성 [Attribute(...)]
+                    }
+                }
+                default -> {
+                }
+            }
+            lastIdentStart = -1;
+        }
+
+        private void openBlock() {
+            depth++;
+            if (pendingBody) {
+                typeBodies.set(depth);
+                typeNames.push(pendingName);
+                if (pendingKind == Kind.ENUM) {
+                    enumConstants.set(depth);
+                }
+            } else if (pendingContainer) {
+                containerBodies.set(depth);
+            }
+            pendingBody = false;
+            pendingContainer = false;
+            visibility = null;
+        }
+
+        private void closeBlock() {
+            if (typeBodies.get(depth)) {
+                typeBodies.clear(depth);
+                enumConstants.clear(depth);
+                typeNames.pop();
+                inInitializer = false;
+            }
+            containerBodies.clear(depth);
+            depth = Math.max(0, depth - 1);
+            visibility = null;
+        }
+
+        // 함수 키워드 뒤 "(" 앞의 마지막 식별자가 이름 (Go 리시버 / Kotlin 확장 함수 / 제네릭 포함)
+        private void declareFunction() {
+            String name = null;
+            boolean receiver = false;
+            while (true) {
+                Token token = scanner.next();
+                if (token == Token.EOF) {
+                    return;
+                }
+                if (token == Token.IDENTIFIER) {
+                    name = scanner.text();
+                } else if (scanner.isSymbol('(')) {
+                    scanner.skipBalanced('(', ')');
+                    if (name != null) {
+                        break;
+                    }
+                    receiver = true;
+                } else if (scanner.isSymbol('[')) {
+                    scanner.skipBalanced('[', ']');
+                } else if (scanner.isSymbol('<')) {
+                    scanner.skipBalanced('<', '>');
+                } else if (!(scanner.isSymbol('.') || scanner.isSymbol('*') || scanner.isSymbol('?'))) {
+                    scanner.pushBack(); // 이름 없는 함수 (익명 함수 / 람다)
+                    return;
+                }
+            }
+            pendingBody = false;
+            declare(atTypeBody() || receiver ? Kind.METHOD : Kind.FUNCTION, name);
+        }
+
+        private void declareMethod() {
+            String name = scanner.text(lastIdentStart, lastIdentEnd);
+            if (NOT_METHOD_NAMES.contains(name)) {
+                return;
+            }
+            declare(isConstructor(name, typeNames.peek()) ? Kind.CONSTRUCTOR : Kind.METHOD, name);
+        }
+
+        private void skipAnnotation() {
+            if (scanner.next() != Token.IDENTIFIER || scanner.is("interface")) {
+                scanner.pushBack(); // @interface
+                return;
+            }
+            Token token = scanner.next();
+            while (scanner.isSymbol('.') && scanner.next() == Token.IDENTIFIER) {
+                token = scanner.next();
+            }
+            if (token != Token.EOF && scanner.isSymbol('(')) {
+                scanner.skipBalanced('(', ')');
+            } else {
+                scanner.pushBack();
+            }
+        }
+
+        // import 문 - 문자열 모듈명(JS, Go)이 있으면 문자열만, 없으면 한정 이름(a.b.C)을 기록
+        private void readImport() {
+            StringBuilder name = new StringBuilder();
+            boolean hasString = false;
+            boolean lastWord = false;
+            int braces = 0;
+            while (true) {
+                Token token = scanner.next();
+                if (token == Token.EOF || scanner.isSymbol(';')) {
+                    break;
+                }
+                if (semicolonOptional() && scanner.firstOnLine() && braces == 0 && !scanner.isSymbol('}')) {
+                    scanner.pushBack();
+                    break;
+                }
+                if (token == Token.STRING) {
+                    outline.addImport(scanner.text());
+                    hasString = true;
+                } else if (scanner.isSymbol('(')) {
+                    readImportGroup();
+                    return;
+                } else if (token == Token.IDENTIFIER) {
+                    if (lastWord) {
+                        name.append(' ');
+                    }
+                    name.append(scanner.text());
+                } else {
+                    braces += scanner.isSymbol('{') ? 1 : scanner.isSymbol('}') ? -1 : 0;
+                    name.append(scanner.text());
+                }
+                lastWord = token == Token.IDENTIFIER;
+            }
+            if (!hasString) {
+                outline.addImport(name.toString());
+            }
+            visibility = null;
+            lastIdentStart = -1;
+        }
+
+        // import ( "fmt" "os" ) - Go 묶음 임포트
+        private void readImportGroup() {
+            Token token = scanner.next();
+            while (token != Token.EOF && !scanner.isSymbol(')')) {
+                if (token == Token.STRING) {
+                    outline.addImport(scanner.text());
+                }
+                token = scanner.next();
+            }
+            visibility = null;
+            lastIdentStart = -1;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.feedbackservice.summary.service.analyzer;
+
+import org.example.feedbackservice.summary.service.analyzer.SourceOutline.Kind;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * C# 분석
+ * - namespace 블록은 최상위로 취급, using 지시문은 임포트
+ */
+@Component
+public class CSharpFileAnalyzer extends BlockStructureAnalyzer {
+    @Override
+    public Set<String> extensions() {
+        return Set.of("cs");
+    }
+
+    @Override
+    protected SourceScanner.Syntax syntax() {
+        return SourceScanner.Syntax.C_LIKE;
+    }
+
+    @Override
+    protected Kind typeKind(SourceScanner scanner) {
+        if (scanner.is("struct")) {
+            return Kind.STRUCT;
+        }
+        if (scanner.is("record")) {
+            return Kind.RECORD;
+        }
+        return super.typeKind(scanner);
+    }
+
+    @Override
+    protected boolean isVisibility(SourceScanner scanner) {
+        return super.isVisibility(scanner) || scanner.is("internal");
+    }
+
+    @Override
+    protected boolean isImport(SourceScanner scanner) {
+        return scanner.is("using");
+    }
+
+    @Override
+    protected boolean isContainer(SourceScanner scanner) {
+        return scanner.is("namespace");
+    }
+}
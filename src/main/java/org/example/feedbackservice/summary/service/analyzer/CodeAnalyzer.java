@@ -1,28 +1,113 @@
 package org.example.feedbackservice.summary.service.analyzer;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 소스 파일 분석
+ * - 확장자 -> 분석기 색인 (SourceFileAnalyzer 빈을 등록하면 언어 추가)
+ * - 분석(소스 토큰 스캔)은 CPU 작업이므로 Netty I/O 스레드가 아닌 전용 스레드 풀에서 실행
+ * - 풀 크기 기본값 = CPU 코어 수, 대기열 상한 / 파일당 분석 시간 상한 적용
+ * - 지표: executor.*{name=code.analysis} (active, queued, queue.remaining, completed)
+ */
 @Component
+@RequiredArgsConstructor
+@Log
 public class CodeAnalyzer {
 
-    private final List<SourceFileAnalyzer> analyzers = List.of(
-            new JavaFileAnalyzer(),
-            new PythonFileAnalyzer(),
-            new JsFileAnalyzer()
-    );
+    private final MeterRegistry meterRegistry;
+
+    // @Component로 등록된 언어별 분석기 전체
+    private final List<SourceFileAnalyzer> analyzers;
+
+    @Value("${github.analysis.threads:0}") // 0 = CPU 코어 수
+    private int threads;
+
+    @Value("${github.analysis.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${github.analysis.file-timeout:5s}")
+    private Duration fileTimeout;
+
+    private Map<String, SourceFileAnalyzer> analyzersByExtension;
+    private ThreadPoolExecutor executor;
+    private Scheduler scheduler;
+
+    @PostConstruct
+    void init() {
+        analyzersByExtension = new HashMap<>();
+        for (SourceFileAnalyzer analyzer : analyzers) {
+            for (String extension : analyzer.extensions()) {
+                SourceFileAnalyzer previous = analyzersByExtension.putIfAbsent(extension, analyzer);
+                if (previous != null) {
+                    throw new IllegalStateException("확장자 ." + extension + " 분석기 중복: "
+                            + previous.getClass().getSimpleName() + ", " + analyzer.getClass().getSimpleName());
+                }
+            }
+        }
+        log.info("소스 분석기 등록: " + new TreeSet<>(analyzersByExtension.keySet()));
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("code-analysis-"));
+        scheduler = Schedulers.fromExecutorService(
+                ExecutorServiceMetrics.monitor(meterRegistry, executor, "code.analysis"), "code-analysis");
+    }
+
+    @PreDestroy
+    void destroy() {
+        scheduler.dispose();
+        executor.shutdownNow();
+    }
 
     public Optional<SourceFileAnalyzer> getAnalyzer(String filename) {
-        return analyzers.stream()
-                .filter(analyzer -> analyzer.supports(filename))
-                .findFirst();
+        return Optional.ofNullable(analyzersByExtension.get(extensionOf(filename)));
+    }
+
+    // 지원하지 않는 파일은 내용을 받기 전에 제외
+    public boolean supports(String filename) {
+        return analyzersByExtension.containsKey(extensionOf(filename));
     }
 
     public String analyzeFile(String filename, String content) {
         return getAnalyzer(filename)
                 .map(analyzer -> analyzer.analyze(content))
-                .orElse("지원되지 않는 파일: " + filename);
+                .orElse("");
+    }
+
+    private String extensionOf(String filename) {
+        int dot = filename.lastIndexOf('.');
+        if (dot < 0 || dot < filename.lastIndexOf('/')) {
+            return "";
+        }
+        return filename.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+
+    // 전용 분석 풀에서 실행 - 시간 초과 시 TimeoutException
+    public Mono<String> analyzeFileAsync(String filename, String content) {
+        return Mono.fromCallable(() -> analyzeFile(filename, content))
+                .subscribeOn(scheduler)
+                .timeout(fileTimeout);
     }
 }
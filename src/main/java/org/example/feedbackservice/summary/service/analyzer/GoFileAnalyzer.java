@@ -0,0 +1,78 @@
+package org.example.feedbackservice.summary.service.analyzer;
+
+import org.example.feedbackservice.summary.service.analyzer.SourceOutline.Kind;
+import org.example.feedbackservice.summary.service.analyzer.SourceScanner.Token;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Go 분석
+ * - type Name struct / interface, func (리시버가 있으면 메서드)
+ * - 대문자로 시작하는 이름은 exported
+ */
+@Component
+public class GoFileAnalyzer extends BlockStructureAnalyzer {
+    @Override
+    public Set<String> extensions() {
+        return Set.of("go");
+    }
+
+    @Override
+    protected SourceScanner.Syntax syntax() {
+        return SourceScanner.Syntax.GO;
+    }
+
+    @Override
+    protected Kind typeKind(SourceScanner scanner) {
+        return null;
+    }
+
+    @Override
+    protected boolean isVisibility(SourceScanner scanner) {
+        return false;
+    }
+
+    @Override
+    protected boolean isFunctionKeyword(SourceScanner scanner) {
+        return scanner.is("func");
+    }
+
+    @Override
+    protected boolean cStyleMethods() {
+        return false;
+    }
+
+    @Override
+    protected boolean semicolonOptional() {
+        return true;
+    }
+
+    @Override
+    protected String visibilityOf(String name, String declared) {
+        return Character.isUpperCase(name.charAt(0)) ? "exported" : null;
+    }
+
+    // type Name struct { ... } - Go 메서드는 본문 밖에서 리시버로 선언되므로 본문은 건너뜀
+    @Override
+    protected boolean onIdentifier(Context context) {
+        SourceScanner scanner = context.scanner();
+        if (!scanner.is("type")) {
+            return false;
+        }
+        if (scanner.next() != Token.IDENTIFIER) {
+            scanner.pushBack(); // type ( ... ) 묶음 선언
+            return true;
+        }
+        String name = scanner.text();
+        scanner.next();
+        if (scanner.is("struct")) {
+            context.declare(Kind.STRUCT, name);
+        } else if (scanner.is("interface")) {
+            context.declare(Kind.INTERFACE, name);
+        } else {
+            scanner.pushBack();
+        }
+        return true;
+    }
+}
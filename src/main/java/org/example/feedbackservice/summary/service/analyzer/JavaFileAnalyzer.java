@@ -1,28 +1,24 @@
 package org.example.feedbackservice.summary.service.analyzer;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import org.example.feedbackservice.summary.service.analyzer.SourceOutline.Kind;
+import org.springframework.stereotype.Component;
 
-public class JavaFileAnalyzer implements SourceFileAnalyzer {
+import java.util.Set;
+
+@Component
+public class JavaFileAnalyzer extends BlockStructureAnalyzer {
     @Override
-    public boolean supports(String filename) {
-        return filename.endsWith(".java");
+    public Set<String> extensions() {
+        return Set.of("java");
     }
 
     @Override
-    public String analyze(String content) {
-        System.out.println("-----content----" + content);
-        // 클래스와 메서드 시그니처 추출
-        StringBuilder result = new StringBuilder();
-        Matcher classMatcher = Pattern.compile("class\\s+(\\w+)").matcher(content);
-        while (classMatcher.find()) {
-            result.append("클래스: ").append(classMatcher.group(1)).append("\n");
-        }
+    protected SourceScanner.Syntax syntax() {
+        return SourceScanner.Syntax.C_LIKE;
+    }
 
-        Matcher methodMatcher = Pattern.compile("(public|private|protectd)?\\s+\\w+\\s+(\\w+)\\(").matcher(content);
-        while (methodMatcher.find()) {
-            result.append("메서드: ").append(methodMatcher.group(2)).append("\n");
-        }
-        return result.toString();
+    @Override
+    protected Kind typeKind(SourceScanner scanner) {
+        return scanner.is("record") ? Kind.RECORD : super.typeKind(scanner);
     }
 }
@@ -1,29 +1,116 @@
 package org.example.feedbackservice.summary.service.analyzer;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import org.example.feedbackservice.summary.service.analyzer.SourceOutline.Kind;
+import org.example.feedbackservice.summary.service.analyzer.SourceScanner.Token;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * JS / TS (JSX / TSX 포함) 분석
+ * - function 선언, const f = () => ... / function 표현식, 클래스 메서드 / 화살표 함수 필드
+ * - import ... from 'module', require('module')
+ */
+@Component
+public class JsFileAnalyzer extends BlockStructureAnalyzer {
+    @Override
+    public Set<String> extensions() {
+        return Set.of("js", "jsx", "mjs", "cjs", "ts", "tsx", "mts", "cts");
+    }
+
+    @Override
+    protected SourceScanner.Syntax syntax() {
+        return SourceScanner.Syntax.JAVASCRIPT;
+    }
+
+    @Override
+    protected boolean isVisibility(SourceScanner scanner) {
+        return super.isVisibility(scanner) || scanner.is("export");
+    }
+
+    @Override
+    protected boolean isFunctionKeyword(SourceScanner scanner) {
+        return scanner.is("function");
+    }
+
+    @Override
+    protected boolean semicolonOptional() {
+        return true;
+    }
+
+    @Override
+    protected boolean isConstructor(String name, String typeName) {
+        return name.equals("constructor");
+    }
 
-public class JsFileAnalyzer implements SourceFileAnalyzer {
     @Override
-    public boolean supports(String filename) {
-        return filename.endsWith(".js")
-                || filename.endsWith(".ts");
+    protected boolean onIdentifier(Context context) {
+        SourceScanner scanner = context.scanner();
+        if (scanner.is("require")) {
+            readRequire(context);
+            return true;
+        }
+        if (context.atTopLevel() && (scanner.is("const") || scanner.is("let") || scanner.is("var"))) {
+            if (scanner.next() != Token.IDENTIFIER) {
+                scanner.pushBack(); // 구조 분해 할당
+                return true;
+            }
+            String name = scanner.text();
+            scanner.next();
+            if (!scanner.isSymbol('=')) {
+                scanner.pushBack();
+                return true;
+            }
+            if (isFunctionValue(scanner)) {
+                context.declare(Kind.FUNCTION, name);
+            }
+            return true;
+        }
+        return false;
     }
 
+    // 클래스 필드 화살표 함수 (handleClick = () => { ... })
     @Override
-    public String analyze(String content) {
-        // 클래스와 메서드 시그니처 추출
-        StringBuilder result = new StringBuilder();
-        Matcher classMatcher = Pattern.compile("class\\s+(\\w+)").matcher(content);
-        while (classMatcher.find()) {
-            result.append("클래스: ").append(classMatcher.group(1)).append("\n");
+    protected void onMemberAssign(Context context, String name) {
+        if (isFunctionValue(context.scanner())) {
+            context.declare(Kind.METHOD, name);
         }
+    }
 
-        String regex = "function\\s+(\\w+)\\(";
-        Matcher functionMatcher = Pattern.compile(regex).matcher(content);
-        while (functionMatcher.find()) {
-            result.append("함수: ").append(functionMatcher.group(1)).append("\n");
+    // "=" 다음 값이 함수인지 - function / (args) => / arg =>
+    private boolean isFunctionValue(SourceScanner scanner) {
+        Token token = scanner.next();
+        if (scanner.is("async")) {
+            token = scanner.next();
+        }
+        if (scanner.is("function")) {
+            return true;
+        }
+        if (token == Token.IDENTIFIER && scanner.lookingAt("=>")) {
+            return true;
+        }
+        if (scanner.isSymbol('(')) {
+            scanner.skipBalanced('(', ')');
+            return scanner.lookingAt("=>") || scanner.lookingAt(":") && scanner.lineContains("=>"); // TS 반환 타입
+        }
+        scanner.pushBack();
+        return false;
+    }
+
+    // require('module')
+    private void readRequire(Context context) {
+        SourceScanner scanner = context.scanner();
+        scanner.next();
+        if (!scanner.isSymbol('(')) {
+            scanner.pushBack();
+            return;
+        }
+        if (scanner.next() == Token.STRING) {
+            context.addImport(scanner.text());
+            scanner.next();
+        }
+        if (!scanner.isSymbol(')')) {
+            scanner.skipBalanced('(', ')');
         }
-        return result.toString();
     }
 }
@@ -0,0 +1,68 @@
+package org.example.feedbackservice.summary.service.analyzer;
+
+import org.example.feedbackservice.summary.service.analyzer.SourceOutline.Kind;
+import org.example.feedbackservice.summary.service.analyzer.SourceScanner.Token;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Kotlin 분석
+ * - class / interface / object / enum class, fun (확장 함수 포함)
+ */
+@Component
+public class KotlinFileAnalyzer extends BlockStructureAnalyzer {
+    @Override
+    public Set<String> extensions() {
+        return Set.of("kt", "kts");
+    }
+
+    @Override
+    protected SourceScanner.Syntax syntax() {
+        return SourceScanner.Syntax.C_LIKE_NESTED_COMMENTS;
+    }
+
+    @Override
+    protected Kind typeKind(SourceScanner scanner) {
+        if (scanner.is("object")) {
+            return Kind.OBJECT;
+        }
+        return scanner.is("enum") ? null : super.typeKind(scanner);
+    }
+
+    @Override
+    protected boolean isVisibility(SourceScanner scanner) {
+        return super.isVisibility(scanner) || scanner.is("internal");
+    }
+
+    @Override
+    protected boolean isFunctionKeyword(SourceScanner scanner) {
+        return scanner.is("fun");
+    }
+
+    @Override
+    protected boolean cStyleMethods() {
+        return false;
+    }
+
+    @Override
+    protected boolean semicolonOptional() {
+        return true;
+    }
+
+    // enum class Name
+    @Override
+    protected boolean onIdentifier(Context context) {
+        SourceScanner scanner = context.scanner();
+        if (!scanner.is("enum") || !scanner.lookingAt("class")) {
+            return false;
+        }
+        scanner.next();
+        if (scanner.next() == Token.IDENTIFIER) {
+            context.declareType(Kind.ENUM, scanner.text());
+        } else {
+            scanner.pushBack();
+        }
+        return true;
+    }
+}
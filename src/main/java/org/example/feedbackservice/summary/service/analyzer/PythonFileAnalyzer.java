@@ -1,27 +1,139 @@
 package org.example.feedbackservice.summary.service.analyzer;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import org.example.feedbackservice.summary.service.analyzer.SourceOutline.Kind;
+import org.example.feedbackservice.summary.service.analyzer.SourceScanner.Token;
+import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Python 분석
+ * - 들여쓰기로 블록을 추적 - 클래스 본문의 def는 메서드, 함수 안의 중첩 정의는 생략
+ * - _name은 private, __name__은 공개
+ */
+@Component
 public class PythonFileAnalyzer implements SourceFileAnalyzer {
     @Override
-    public boolean supports(String filename) {
-        return filename.endsWith(".py");
+    public Set<String> extensions() {
+        return Set.of("py", "pyi");
     }
 
     @Override
-    public String analyze(String content) {
-        // 클래스와 메서드 시그니처 추출
-        StringBuilder result = new StringBuilder();
-        Matcher classMatcher = Pattern.compile("class\\s+(\\w+)").matcher(content);
-        while (classMatcher.find()) {
-            result.append("클래스: ").append(classMatcher.group(1)).append("\n");
+    public SourceOutline outline(String content) {
+        SourceOutline outline = new SourceOutline();
+        SourceScanner scanner = new SourceScanner(content, SourceScanner.Syntax.PYTHON);
+
+        // 열린 class / def 블록의 들여쓰기
+        int[] indents = new int[16];
+        boolean[] classes = new boolean[16];
+        int blocks = 0;
+        int classDepth = 0;
+        int brackets = 0;
+
+        for (Token token = scanner.next(); token != Token.EOF; token = scanner.next()) {
+            boolean statementStart = scanner.firstOnLine() && brackets == 0;
+            if (statementStart) {
+                while (blocks > 0 && indents[blocks - 1] >= scanner.column()) {
+                    if (classes[--blocks]) {
+                        classDepth--;
+                    }
+                }
+            }
+            if (token == Token.SYMBOL) {
+                if (scanner.isSymbol('(') || scanner.isSymbol('[') || scanner.isSymbol('{')) {
+                    brackets++;
+                } else if (scanner.isSymbol(')') || scanner.isSymbol(']') || scanner.isSymbol('}')) {
+                    brackets = Math.max(0, brackets - 1);
+                }
+                continue;
+            }
+            if (token != Token.IDENTIFIER || !statementStart) {
+                continue;
+            }
+
+            int column = scanner.column();
+            if (scanner.is("import")) {
+                readImport(scanner, outline);
+                continue;
+            }
+            if (scanner.is("from")) {
+                outline.addImport(readModule(scanner));
+                continue;
+            }
+            if (scanner.is("async")) {
+                scanner.next();
+            }
+            boolean isClass = scanner.is("class");
+            if (!isClass && !scanner.is("def")) {
+                continue;
+            }
+            if (scanner.next() != Token.IDENTIFIER) {
+                scanner.pushBack();
+                continue;
+            }
+            String name = scanner.text();
+            boolean inClass = blocks > 0 && classes[blocks - 1];
+            if (blocks == 0 || inClass) {
+                Kind kind = isClass ? Kind.CLASS
+                        : !inClass ? Kind.FUNCTION
+                        : name.equals("__init__") ? Kind.CONSTRUCTOR : Kind.METHOD;
+                outline.add(kind, name, visibilityOf(name), classDepth);
+            }
+
+            if (blocks == indents.length) {
+                indents = Arrays.copyOf(indents, blocks * 2);
+                classes = Arrays.copyOf(classes, blocks * 2);
+            }
+            indents[blocks] = column;
+            classes[blocks++] = isClass;
+            if (isClass) {
+                classDepth++;
+            }
+        }
+        return outline;
+    }
+
+    private String visibilityOf(String name) {
+        if (name.startsWith("__") && name.endsWith("__")) {
+            return null;
+        }
+        return name.startsWith("_") ? "private" : null;
+    }
+
+    // import a.b, c as d
+    private void readImport(SourceScanner scanner, SourceOutline outline) {
+        StringBuilder name = new StringBuilder();
+        for (Token token = scanner.next(); token != Token.EOF; token = scanner.next()) {
+            if (scanner.firstOnLine()) {
+                scanner.pushBack();
+                break;
+            }
+            if (scanner.is("as")) {
+                scanner.next(); // 별칭
+            } else if (scanner.isSymbol(',') || scanner.isSymbol(';')) {
+                outline.addImport(name.toString());
+                name.setLength(0);
+                if (scanner.isSymbol(';')) {
+                    return;
+                }
+            } else {
+                name.append(scanner.text());
+            }
         }
+        outline.addImport(name.toString());
+    }
 
-        Matcher methodMatcher = Pattern.compile("def\\s+(\\w+)\\(").matcher(content);
-        while (methodMatcher.find()) {
-            result.append("메서드: ").append(methodMatcher.group(1)).append("\n");
+    // from .a.b import c -> ".a.b"
+    private String readModule(SourceScanner scanner) {
+        StringBuilder module = new StringBuilder();
+        for (Token token = scanner.next(); token != Token.EOF; token = scanner.next()) {
+            if (scanner.firstOnLine() || scanner.is("import")) {
+                scanner.pushBack();
+                break;
+            }
+            module.append(scanner.text());
         }
-        return result.toString();
+        return module.toString();
     }
 }
@@ -0,0 +1,93 @@
+package org.example.feedbackservice.summary.service.analyzer;
+
+import org.example.feedbackservice.summary.service.analyzer.SourceOutline.Kind;
+import org.example.feedbackservice.summary.service.analyzer.SourceScanner.Token;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Rust 분석
+ * - struct / enum / trait, impl 블록 (impl Trait for Type), fn, use, mod 블록
+ */
+@Component
+public class RustFileAnalyzer extends BlockStructureAnalyzer {
+    @Override
+    public Set<String> extensions() {
+        return Set.of("rs");
+    }
+
+    @Override
+    protected SourceScanner.Syntax syntax() {
+        return SourceScanner.Syntax.RUST;
+    }
+
+    @Override
+    protected Kind typeKind(SourceScanner scanner) {
+        if (scanner.is("struct")) {
+            return Kind.STRUCT;
+        }
+        if (scanner.is("enum")) {
+            return Kind.ENUM;
+        }
+        if (scanner.is("trait")) {
+            return Kind.TRAIT;
+        }
+        return null;
+    }
+
+    @Override
+    protected boolean isVisibility(SourceScanner scanner) {
+        return scanner.is("pub");
+    }
+
+    @Override
+    protected boolean isImport(SourceScanner scanner) {
+        return scanner.is("use");
+    }
+
+    @Override
+    protected boolean isFunctionKeyword(SourceScanner scanner) {
+        return scanner.is("fn");
+    }
+
+    @Override
+    protected boolean isContainer(SourceScanner scanner) {
+        return scanner.is("mod");
+    }
+
+    @Override
+    protected boolean cStyleMethods() {
+        return false;
+    }
+
+    // impl<T> Trait for Type<T> where ... { -> "Trait for Type"
+    @Override
+    protected boolean onIdentifier(Context context) {
+        SourceScanner scanner = context.scanner();
+        if (!scanner.is("impl")) {
+            return false;
+        }
+        StringBuilder name = new StringBuilder();
+        for (Token token = scanner.next(); token != Token.EOF; token = scanner.next()) {
+            if (scanner.isSymbol('<')) {
+                scanner.skipBalanced('<', '>');
+            } else if (scanner.isSymbol('{') || scanner.is("where")) {
+                scanner.pushBack();
+                break;
+            } else if (token == Token.IDENTIFIER) {
+                if (scanner.is("for")) {
+                    name.append(" for ");
+                } else if (name.isEmpty() || name.charAt(name.length() - 1) == ' ') {
+                    name.append(scanner.text());
+                } else {
+                    // 경로(std::fmt::Display)는 마지막 이름만
+                    name.setLength(Math.max(name.lastIndexOf(" ") + 1, 0));
+                    name.append(scanner.text());
+                }
+            }
+        }
+        context.declareType(Kind.IMPL, name.toString());
+        return true;
+    }
+}
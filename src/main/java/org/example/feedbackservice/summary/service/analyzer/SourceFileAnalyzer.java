@@ -1,6 +1,17 @@
 package org.example.feedbackservice.summary.service.analyzer;
 
+import java.util.Set;
+
+/**
+ * 언어별 소스 분석기 - @Component로 등록하면 CodeAnalyzer가 확장자로 색인
+ */
 public interface SourceFileAnalyzer {
-    boolean supports(String filename);
-    String analyze(String content);
+    // 담당 확장자 (소문자, 점 제외)
+    Set<String> extensions();
+
+    SourceOutline outline(String content);
+
+    default String analyze(String content) {
+        return outline(content).render();
+    }
 }
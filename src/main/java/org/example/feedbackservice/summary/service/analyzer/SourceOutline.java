@@ -0,0 +1,81 @@
+package org.example.feedbackservice.summary.service.analyzer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 소스 파일 구조 요약 (임포트 / 타입 / 메서드 / 함수)
+ * - depth: 선언을 감싸는 타입 수 (중첩 클래스, 클래스 메서드는 들여쓰기로 표시)
+ * - visibility: 선언된 접근 제어자 (없으면 null)
+ */
+public class SourceOutline {
+
+    private static final int MAX_IMPORTS = 30;
+
+    public enum Kind {
+        CLASS("클래스"),
+        INTERFACE("인터페이스"),
+        ENUM("열거형"),
+        RECORD("레코드"),
+        STRUCT("구조체"),
+        TRAIT("트레이트"),
+        OBJECT("객체"),
+        IMPL("구현"),
+        EXTENSION("확장"),
+        CONSTRUCTOR("생성자"),
+        METHOD("메서드"),
+        FUNCTION("함수");
+
+        private final String label;
+
+        Kind(String label) {
+            this.label = label;
+        }
+    }
+
+    public record Declaration(Kind kind, String name, String visibility, int depth) {
+    }
+
+    private final List<String> imports = new ArrayList<>();
+    private final List<Declaration> declarations = new ArrayList<>();
+
+    public void addImport(String name) {
+        if (name != null && !name.isBlank()) {
+            imports.add(name);
+        }
+    }
+
+    public void add(Kind kind, String name, String visibility, int depth) {
+        declarations.add(new Declaration(kind, name, visibility, depth));
+    }
+
+    public List<String> getImports() {
+        return imports;
+    }
+
+    public List<Declaration> getDeclarations() {
+        return declarations;
+    }
+
+    public String render() {
+        StringBuilder result = new StringBuilder();
+        if (!imports.isEmpty()) {
+            result.append("임포트: ");
+            int shown = Math.min(imports.size(), MAX_IMPORTS);
+            result.append(String.join(", ", imports.subList(0, shown)));
+            if (imports.size() > shown) {
+                result.append(" 외 ").append(imports.size() - shown).append("개");
+            }
+            result.append("\n");
+        }
+        for (Declaration declaration : declarations) {
+            result.append("  ".repeat(declaration.depth()))
+                    .append(declaration.kind().label).append(": ").append(declaration.name());
+            if (declaration.visibility() != null) {
+                result.append(" (").append(declaration.visibility()).append(")");
+            }
+            result.append("\n");
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,434 @@
+package org.example.feedbackservice.summary.service.analyzer;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * 단일 패스 소스 토큰 스캐너
+ * - 주석은 건너뛰고 식별자 / 숫자 / 문자열 / 기호 토큰만 반환
+ * - 토큰 객체를 만들지 않고 위치(start, end)만 기록 - 필요한 토큰만 text()로 문자열 생성
+ * - 언어별 차이(주석 기호, 문자열 구분자)는 Syntax로 지정
+ * - 분석 시간 초과로 스레드가 인터럽트되면 CancellationException
+ */
+public final class SourceScanner {
+
+    public enum Token {
+        IDENTIFIER, NUMBER, STRING, SYMBOL, EOF
+    }
+
+    /**
+     * @param slashComments  // 및 블록 주석
+     * @param hashComments   # 한 줄 주석
+     * @param tripleQuotes   """ / ''' 여러 줄 문자열 (Python, Java 텍스트 블록, Kotlin)
+     * @param templateString `...${}...` 템플릿 문자열 (JS/TS)
+     * @param regexLiterals  /.../ 정규식 리터럴 (JS/TS)
+     * @param lifetimes      닫히지 않는 ' 는 기호 (Rust 'a 라이프타임)
+     * @param nestedComments 블록 주석 중첩 (Rust, Kotlin, Swift)
+     */
+    public record Syntax(
+            boolean slashComments,
+            boolean hashComments,
+            boolean tripleQuotes,
+            boolean templateString,
+            boolean regexLiterals,
+            boolean lifetimes,
+            boolean nestedComments
+    ) {
+        public static final Syntax C_LIKE = new Syntax(true, false, true, false, false, false, false);
+        public static final Syntax C_LIKE_NESTED_COMMENTS = new Syntax(true, false, true, false, false, false, true);
+        public static final Syntax PYTHON = new Syntax(false, true, true, false, false, false, false);
+        public static final Syntax JAVASCRIPT = new Syntax(true, false, false, true, true, false, false);
+        public static final Syntax GO = new Syntax(true, false, false, true, false, false, false);
+        public static final Syntax RUST = new Syntax(true, false, false, false, false, true, true);
+    }
+
+    private static final int INTERRUPT_CHECK_MASK = 0x3FFF;
+
+    // ASCII 식별자 문자 표 (Character.isJavaIdentifier* 호출 생략)
+    private static final boolean[] IDENTIFIER_START = new boolean[128];
+    private static final boolean[] IDENTIFIER_PART = new boolean[128];
+
+    static {
+        for (char c = 0; c < 128; c++) {
+            IDENTIFIER_START[c] = Character.isJavaIdentifierStart(c);
+            IDENTIFIER_PART[c] = Character.isJavaIdentifierPart(c) && !Character.isIdentifierIgnorable(c);
+        }
+    }
+
+    private final String source;
+    private final int length;
+    private final Syntax syntax;
+
+    private int pos;
+    private int lineStart;
+    private boolean newLine = true;
+    private int tokenCount;
+
+    private Token token;
+    private int tokenStart;
+    private int tokenEnd;
+    private int tokenColumn;
+    private boolean tokenFirstOnLine;
+    private boolean replay;
+
+    public SourceScanner(String source, Syntax syntax) {
+        this.source = source;
+        this.length = source.length();
+        this.syntax = syntax;
+    }
+
+    public Token next() {
+        if (replay) {
+            replay = false;
+            return token;
+        }
+        if ((++tokenCount & INTERRUPT_CHECK_MASK) == 0 && Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("소스 분석 중단");
+        }
+        Token previous = token;
+        int previousStart = tokenStart;
+        int previousEnd = tokenEnd;
+        while (pos < length) {
+            char c = source.charAt(pos);
+            if (c == '\n') {
+                lineStart = ++pos;
+                newLine = true;
+                continue;
+            }
+            if (c == ' ' || c == '\t' || c == '\r' || c == '\f') {
+                pos++;
+                continue;
+            }
+            if (c == '/' && syntax.slashComments() && pos + 1 < length) {
+                char n = source.charAt(pos + 1);
+                if (n == '/') {
+                    skipLine();
+                    continue;
+                }
+                if (n == '*') {
+                    skipBlockComment();
+                    continue;
+                }
+            }
+            if (c == '#' && syntax.hashComments()) {
+                skipLine();
+                continue;
+            }
+
+            tokenStart = pos;
+            tokenColumn = pos - lineStart;
+            tokenFirstOnLine = newLine;
+            newLine = false;
+
+            if (isIdentifierStart(c)) {
+                pos++;
+                while (pos < length && isIdentifierPart(source.charAt(pos))) {
+                    pos++;
+                }
+                return emit(Token.IDENTIFIER, pos);
+            }
+            if (c >= '0' && c <= '9') {
+                pos++;
+                while (pos < length && (Character.isLetterOrDigit(source.charAt(pos)) || source.charAt(pos) == '.'
+                        || source.charAt(pos) == '_')) {
+                    pos++;
+                }
+                return emit(Token.NUMBER, pos);
+            }
+            if (c == '"' || c == '\'') {
+                return scanString(c);
+            }
+            if (c == '`' && syntax.templateString()) {
+                pos++;
+                skipTemplate();
+                tokenStart++;
+                return emit(Token.STRING, pos - 1);
+            }
+            if (c == '/' && syntax.regexLiterals() && regexAllowed(previous, previousStart, previousEnd)) {
+                skipRegex();
+                return emit(Token.STRING, pos);
+            }
+            pos++;
+            return emit(Token.SYMBOL, pos);
+        }
+        tokenStart = tokenEnd = length;
+        return token = Token.EOF;
+    }
+
+    // 직전 토큰을 한 번 더 반환
+    public void pushBack() {
+        replay = true;
+    }
+
+    public Token token() {
+        return token;
+    }
+
+    public boolean is(String word) {
+        return token == Token.IDENTIFIER && isWord(tokenStart, tokenEnd, word);
+    }
+
+    public boolean isSymbol(char symbol) {
+        return token == Token.SYMBOL && source.charAt(tokenStart) == symbol;
+    }
+
+    // 기호 토큰의 문자
+    public char symbol() {
+        return source.charAt(tokenStart);
+    }
+
+    public String text() {
+        return source.substring(tokenStart, tokenEnd);
+    }
+
+    public String text(int start, int end) {
+        return source.substring(start, end);
+    }
+
+    public int start() {
+        return tokenStart;
+    }
+
+    public int end() {
+        return tokenEnd;
+    }
+
+    // 토큰이 시작하는 열 (줄 첫 토큰이면 들여쓰기 폭)
+    public int column() {
+        return tokenColumn;
+    }
+
+    public boolean firstOnLine() {
+        return tokenFirstOnLine;
+    }
+
+    // 같은 줄에서 다음 내용이 text로 시작하는지 (토큰 소비 없음)
+    public boolean lookingAt(String text) {
+        int p = pos;
+        while (p < length && (source.charAt(p) == ' ' || source.charAt(p) == '\t')) {
+            p++;
+        }
+        return source.startsWith(text, p);
+    }
+
+    // 현재 줄의 남은 부분에 text가 있는지 (토큰 소비 없음)
+    public boolean lineContains(String text) {
+        int lineEnd = source.indexOf('\n', pos);
+        int end = (lineEnd < 0 ? length : lineEnd) - text.length();
+        for (int p = pos; p <= end; p++) {
+            if (source.startsWith(text, p)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 현재 여는 괄호와 짝이 맞는 닫는 괄호까지 건너뜀
+    public void skipBalanced(char open, char close) {
+        int depth = 1;
+        while (depth > 0) {
+            Token t = next();
+            if (t == Token.EOF) {
+                return;
+            }
+            if (isSymbol(open)) {
+                depth++;
+            } else if (isSymbol(close)) {
+                depth--;
+            }
+        }
+    }
+
+    private static boolean isIdentifierStart(char c) {
+        return c < 128 ? IDENTIFIER_START[c] : Character.isJavaIdentifierStart(c);
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return c < 128 ? IDENTIFIER_PART[c] : Character.isJavaIdentifierPart(c);
+    }
+
+    private Token emit(Token type, int end) {
+        pos = Math.min(pos, length);
+        tokenEnd = Math.min(end, length);
+        return token = type;
+    }
+
+    private Token scanString(char quote) {
+        if (syntax.tripleQuotes() && pos + 2 < length
+                && source.charAt(pos + 1) == quote && source.charAt(pos + 2) == quote) {
+            pos += 3;
+            int contentStart = pos;
+            while (pos < length) {
+                char c = source.charAt(pos);
+                if (c == '\\') {
+                    pos += 2;
+                } else if (c == quote && pos + 2 < length
+                        && source.charAt(pos + 1) == quote && source.charAt(pos + 2) == quote) {
+                    tokenStart = contentStart;
+                    tokenEnd = pos;
+                    pos += 3;
+                    return token = Token.STRING;
+                } else {
+                    if (c == '\n') {
+                        lineStart = pos + 1;
+                    }
+                    pos++;
+                }
+            }
+            tokenStart = contentStart;
+            return emit(Token.STRING, length);
+        }
+        if (quote == '\'' && syntax.lifetimes() && !isCharLiteral()) {
+            pos++;
+            return emit(Token.SYMBOL, pos);
+        }
+        pos++;
+        int contentStart = pos;
+        int contentEnd = skipQuoted(quote);
+        if (contentEnd < 0) {
+            // 닫는 따옴표 없음 (JSX 텍스트의 ' 등) - 따옴표만 기호로 반환하고 나머지는 그대로 토큰화
+            pos = contentStart;
+            return emit(Token.SYMBOL, pos);
+        }
+        tokenStart = contentStart;
+        return emit(Token.STRING, contentEnd);
+    }
+
+    // 'x' / '\n' 문자 리터럴인지 ('a 라이프타임과 구분)
+    private boolean isCharLiteral() {
+        return pos + 2 < length && (source.charAt(pos + 1) == '\\' || source.charAt(pos + 2) == '\'');
+    }
+
+    // 한 줄 문자열 - 닫는 따옴표 위치, 줄 끝까지 없으면 -1
+    private int skipQuoted(char quote) {
+        while (pos < length) {
+            char c = source.charAt(pos);
+            if (c == '\\') {
+                pos += 2;
+            } else if (c == quote) {
+                return pos++;
+            } else if (c == '\n') {
+                return -1;
+            } else {
+                pos++;
+            }
+        }
+        return -1;
+    }
+
+    private void skipTemplate() {
+        while (pos < length) {
+            char c = source.charAt(pos++);
+            if (c == '\\') {
+                pos++;
+            } else if (c == '`') {
+                return;
+            } else if (c == '$' && pos < length && source.charAt(pos) == '{') {
+                pos++;
+                skipTemplateExpression();
+            } else if (c == '\n') {
+                lineStart = pos;
+            }
+        }
+    }
+
+    private void skipTemplateExpression() {
+        int depth = 1;
+        while (pos < length && depth > 0) {
+            char c = source.charAt(pos++);
+            if (c == '{') {
+                depth++;
+            } else if (c == '}') {
+                depth--;
+            } else if (c == '`') {
+                skipTemplate();
+            } else if (c == '"' || c == '\'') {
+                skipQuoted(c);
+            } else if (c == '\n') {
+                lineStart = pos;
+            }
+        }
+    }
+
+    // 나눗셈 기호와 구분: 값 뒤(식별자, 숫자, 닫는 괄호)가 아니면 정규식
+    private boolean regexAllowed(Token previous, int previousStart, int previousEnd) {
+        if (previous == null) {
+            return true;
+        }
+        return switch (previous) {
+            case IDENTIFIER -> isWord(previousStart, previousEnd, "return")
+                    || isWord(previousStart, previousEnd, "typeof")
+                    || isWord(previousStart, previousEnd, "case");
+            case NUMBER, STRING -> false;
+            case SYMBOL -> { // '<' 뒤는 JSX 닫는 태그 (</div>)
+                char symbol = source.charAt(previousStart);
+                yield symbol != ')' && symbol != ']' && symbol != '}' && symbol != '<';
+            }
+            case EOF -> true;
+        };
+    }
+
+    private boolean isWord(int start, int end, String word) {
+        return end - start == word.length() && source.startsWith(word, start);
+    }
+
+    private void skipRegex() {
+        pos++;
+        boolean inClass = false;
+        while (pos < length) {
+            char c = source.charAt(pos);
+            if (c == '\\') {
+                pos += 2;
+                continue;
+            }
+            if (c == '\n') {
+                return;
+            }
+            pos++;
+            if (c == '[') {
+                inClass = true;
+            } else if (c == ']') {
+                inClass = false;
+            } else if (c == '/' && !inClass) {
+                while (pos < length && Character.isLetter(source.charAt(pos))) {
+                    pos++;
+                }
+                return;
+            }
+        }
+    }
+
+    private void skipLine() {
+        int lineEnd = source.indexOf('\n', pos);
+        pos = lineEnd < 0 ? length : lineEnd;
+    }
+
+    // 닫히지 않은 주석은 파일 끝까지
+    private void skipBlockComment() {
+        int end;
+        if (syntax.nestedComments()) {
+            end = pos + 2;
+            int depth = 1;
+            while (end < length && depth > 0) {
+                if (source.startsWith("/*", end)) {
+                    depth++;
+                    end += 2;
+                } else if (source.startsWith("*/", end)) {
+                    depth--;
+                    end += 2;
+                } else {
+                    end++;
+                }
+            }
+            end = Math.min(end, length);
+        } else {
+            int close = source.indexOf("*/", pos + 2);
+            end = close < 0 ? length : close + 2;
+        }
+        int lastNewLine = source.lastIndexOf('\n', end - 1);
+        if (lastNewLine >= pos) {
+            lineStart = lastNewLine + 1;
+            newLine = true;
+        }
+        pos = end;
+    }
+}
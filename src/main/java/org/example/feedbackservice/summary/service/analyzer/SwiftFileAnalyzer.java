@@ -0,0 +1,74 @@
+package org.example.feedbackservice.summary.service.analyzer;
+
+import org.example.feedbackservice.summary.service.analyzer.SourceOutline.Kind;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Swift 분석
+ * - class / struct / enum / protocol / actor / extension, func, init
+ */
+@Component
+public class SwiftFileAnalyzer extends BlockStructureAnalyzer {
+    @Override
+    public Set<String> extensions() {
+        return Set.of("swift");
+    }
+
+    @Override
+    protected SourceScanner.Syntax syntax() {
+        return SourceScanner.Syntax.C_LIKE_NESTED_COMMENTS;
+    }
+
+    @Override
+    protected Kind typeKind(SourceScanner scanner) {
+        if (scanner.is("class") || scanner.is("actor")) {
+            return Kind.CLASS;
+        }
+        if (scanner.is("struct")) {
+            return Kind.STRUCT;
+        }
+        if (scanner.is("enum")) {
+            return Kind.ENUM;
+        }
+        if (scanner.is("protocol")) {
+            return Kind.INTERFACE;
+        }
+        if (scanner.is("extension")) {
+            return Kind.EXTENSION;
+        }
+        return null;
+    }
+
+    @Override
+    protected boolean isVisibility(SourceScanner scanner) {
+        return super.isVisibility(scanner) || scanner.is("fileprivate") || scanner.is("internal")
+                || scanner.is("open");
+    }
+
+    @Override
+    protected boolean isFunctionKeyword(SourceScanner scanner) {
+        return scanner.is("func");
+    }
+
+    @Override
+    protected boolean cStyleMethods() {
+        return false;
+    }
+
+    @Override
+    protected boolean semicolonOptional() {
+        return true;
+    }
+
+    @Override
+    protected boolean onIdentifier(Context context) {
+        SourceScanner scanner = context.scanner();
+        if (context.atTypeBody() && scanner.is("init")) {
+            context.declare(Kind.CONSTRUCTOR, "init");
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,165 @@
+package org.example.feedbackservice.summary.service.file;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.java.Log;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.tika.config.TikaConfig;
+import org.apache.tika.exception.WriteLimitReachedException;
+import org.apache.tika.metadata.Metadata;
+import org.apache.tika.metadata.TikaCoreProperties;
+import org.apache.tika.mime.MediaType;
+import org.apache.tika.mime.MediaTypeRegistry;
+import org.apache.tika.parser.AutoDetectParser;
+import org.apache.tika.parser.ParseContext;
+import org.apache.tika.sax.BodyContentHandler;
+import org.apache.tika.sax.WriteOutContentHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 문서 텍스트 추출 (Tika)
+ * - 파서는 한 번만 구성해 모든 요청이 공유 (AutoDetectParser는 스레드 안전) - 파일마다 파서 / 검출기를 다시 로딩하지 않음
+ * - tika-config.xml로 받는 형식(PDF / DOCX / PPTX / HWP / TXT / MD)의 파서만 등록
+ * - 기동 직후 백그라운드에서 작은 샘플 문서를 파싱해 클래스 로딩 / 초기화 비용을 미리 치름
+ * - 추출 텍스트는 SAX 이벤트가 오는 대로 출력에 기록, 문자 예산에 도달하면 파싱 중단 (큰 문서 전체를 힙에 올리지 않음)
+ * - spill-threshold를 넘는 텍스트는 임시 파일로 옮겨 보관
+ * - 페이지 / 슬라이드 끝에는 \f를 넣어 요약 단계에서 페이지 경계로 나눌 수 있게 함
+ * - 지표: file.extraction.duration{mime, outcome=success|truncated|error} - 그 외 형식은 mime=other
+ */
+@Component
+@RequiredArgsConstructor
+@Log
+public class DocumentTextExtractor {
+
+    private static final String OTHER_TYPE = "other";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${file.extraction.tika-config:classpath:tika-config.xml}")
+    private Resource tikaConfigResource;
+
+    // 0 이하 = 임시 파일로 옮기지 않음
+    @Value("${file.extraction.spill-threshold:65536}")
+    private long spillThreshold;
+
+    @Value("${file.extraction.spill-directory:${java.io.tmpdir}/feedback-extraction}")
+    private Path spillDirectory;
+
+    private AutoDetectParser parser;
+    private MediaTypeRegistry mediaTypeRegistry;
+    private Set<MediaType> supportedTypes;
+
+    @PostConstruct
+    void init() throws Exception {
+        try (InputStream config = tikaConfigResource.getInputStream()) {
+            TikaConfig tikaConfig = new TikaConfig(config);
+            parser = new AutoDetectParser(tikaConfig);
+            mediaTypeRegistry = tikaConfig.getMediaTypeRegistry();
+        }
+        supportedTypes = parser.getSupportedTypes(new ParseContext());
+        Schedulers.boundedElastic().schedule(this::warmUp);
+    }
+
+    /**
+     * 본문 텍스트 추출
+     * @param resourceName 파일 이름 - 내용만으로 구분되지 않는 형식(MD 등)의 검출에 사용
+     * @param maxChars     문자 예산 - 도달하면 그때까지의 텍스트만 반환 (truncated)
+     */
+    public ExtractedText extract(InputStream input, String resourceName, int maxChars) throws Exception {
+        Metadata metadata = new Metadata();
+        if (resourceName != null) {
+            metadata.set(TikaCoreProperties.RESOURCE_NAME_KEY, resourceName);
+        }
+        SpillingWriter writer = new SpillingWriter(spillThreshold, spillDirectory);
+        BodyContentHandler handler = new BodyContentHandler(
+                new PageBreakHandler(new WriteOutContentHandler(writer, maxChars)));
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            parser.parse(input, handler, metadata, new ParseContext());
+            return writer.toExtractedText(false);
+        } catch (Exception e) {
+            if (WriteLimitReachedException.isWriteLimitReached(e)) {
+                outcome = "truncated";
+                return writer.toExtractedText(true);
+            }
+            outcome = "error";
+            writer.discard();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("file.extraction.duration")
+                    .tag("mime", mimeTag(metadata.get(Metadata.CONTENT_TYPE)))
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    // 파서가 있는 형식(상위 형식 포함)만 그대로 태그 - 태그 종류 수 제한
+    private String mimeTag(String contentType) {
+        MediaType type = contentType == null ? null : MediaType.parse(contentType);
+        if (type == null) {
+            return OTHER_TYPE;
+        }
+        MediaType baseType = type.getBaseType();
+        for (MediaType candidate = baseType; candidate != null; candidate = mediaTypeRegistry.getSupertype(candidate)) {
+            if (supportedTypes.contains(candidate)) {
+                return baseType.toString();
+            }
+        }
+        return OTHER_TYPE;
+    }
+
+    // 형식별 샘플 파싱 - 실패해도 기동에는 영향 없음 (첫 요청에서 다시 초기화)
+    private void warmUp() {
+        long start = System.nanoTime();
+        try {
+            for (Map.Entry<String, byte[]> sample : samples().entrySet()) {
+                parser.parse(new ByteArrayInputStream(sample.getValue()),
+                        new BodyContentHandler(-1), sampleMetadata(sample.getKey()), new ParseContext());
+            }
+            log.info("Tika 파서 준비 완료: %dms, 지원 형식 %d개".formatted(
+                    (System.nanoTime() - start) / 1_000_000, supportedTypes.size()));
+        } catch (Exception e) {
+            log.warning("Tika 파서 사전 준비 실패: " + e.getMessage());
+        }
+    }
+
+    private Map<String, byte[]> samples() throws IOException {
+        ByteArrayOutputStream pdf = new ByteArrayOutputStream();
+        try (PDDocument document = new PDDocument()) {
+            document.addPage(new PDPage());
+            document.save(pdf);
+        }
+        ByteArrayOutputStream docx = new ByteArrayOutputStream();
+        try (XWPFDocument document = new XWPFDocument()) {
+            document.createParagraph().createRun().setText("warm-up");
+            document.write(docx);
+        }
+        return Map.of(
+                "warm-up.pdf", pdf.toByteArray(),
+                "warm-up.docx", docx.toByteArray(),
+                "warm-up.md", "# warm-up".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Metadata sampleMetadata(String name) {
+        Metadata metadata = new Metadata();
+        metadata.set(TikaCoreProperties.RESOURCE_NAME_KEY, name);
+        return metadata;
+    }
+}
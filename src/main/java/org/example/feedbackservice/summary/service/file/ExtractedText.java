@@ -0,0 +1,51 @@
+package org.example.feedbackservice.summary.service.file;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 파일 하나의 추출 텍스트 - 작으면 메모리(text), 크면 임시 파일(spillFile)에 보관
+ * - 사용이 끝나면 discard로 임시 파일 삭제
+ *
+ * @param length    추출된 문자 수
+ * @param truncated 문자 예산에 도달해 추출을 중단했는지
+ */
+public record ExtractedText(
+        String text,
+        Path spillFile,
+        long length,
+        boolean truncated
+) {
+
+    private static final ExtractedText EMPTY = new ExtractedText("", null, 0, false);
+
+    public static ExtractedText empty() {
+        return EMPTY;
+    }
+
+    // 임시 파일에 있으면 이 시점에 읽음
+    public String content() {
+        if (spillFile == null) {
+            return text;
+        }
+        try {
+            return Files.readString(spillFile, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void discard() {
+        if (spillFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(spillFile);
+        } catch (IOException ignored) {
+            // 임시 디렉토리 정리에 맡김
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package org.example.feedbackservice.summary.service.file;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.java.Log;
+import org.example.feedbackservice.common.cache.PersistentLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 내용 해시(SHA-256) 기준 추출 텍스트 캐시
+ * - 요약 갱신마다 같은 첨부 파일을 다시 제출해도 Tika 파싱은 한 번만
+ * - 캐시된 텍스트가 요청한 문자 예산을 채우면 재사용 (예산이 더 작으면 앞부분만 잘라 반환)
+ * - 임시 파일로 옮겨진(spill) 큰 텍스트는 캐시 파일 디렉토리에 파일로 보관 - 저장 / 적중 시 힙에 올리지 않음
+ *   적중 시에는 호출자 소유의 파일(하드 링크, 불가하면 복사)을 넘겨줌 (호출자가 discard해도 캐시 파일은 유지)
+ *   파일 디렉토리 전체 크기가 max-file-size를 넘으면 오래 사용하지 않은 파일부터 삭제 (파일이 없는 항목은 미스)
+ * - 지표: cache.gets{cache=file.extracted-text, result=hit|miss} 등 (PersistentLruCache)
+ * - 추출 방식(파서 구성, 텍스트 형식)이 바뀌면 KEY_VERSION을 올려 이전 결과를 무효화
+ */
+@Component
+@RequiredArgsConstructor
+@Log
+public class ExtractedTextCache {
+
+    private static final String KEY_VERSION = "v2";
+    private static final int BUFFER_SIZE = 8192;
+    private static final String FILE_SUFFIX = ".txt";
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${file.extraction.cache.max-size:64MB}")
+    private DataSize maxSize;
+
+    @Value("${file.extraction.cache.directory:}")
+    private String directory;
+
+    @Value("${file.extraction.cache.file-directory:${java.io.tmpdir}/feedback-extracted-text-files}")
+    private Path fileDirectory;
+
+    @Value("${file.extraction.cache.max-file-size:1GB}")
+    private DataSize maxFileSize;
+
+    // 적중 시 넘겨주는 파일 위치 (추출 결과와 같은 임시 디렉토리)
+    @Value("${file.extraction.spill-directory:${java.io.tmpdir}/feedback-extraction}")
+    private Path spillDirectory;
+
+    private PersistentLruCache<CachedText> cache;
+
+    @PostConstruct
+    void init() {
+        cache = new PersistentLruCache<>("file.extracted-text", maxSize, directory, CachedText.class,
+                cached -> 2L * (cached.text() != null ? cached.text().length() : 0) + 128, objectMapper, meterRegistry);
+    }
+
+    public Optional<ExtractedText> get(String key, int maxChars) {
+        return cache.get(key).flatMap(cached -> {
+            try {
+                return Optional.ofNullable(cached.textFile() != null
+                        ? fromFile(cached, maxChars)
+                        : fromText(cached, maxChars));
+            } catch (IOException e) {
+                log.warning("캐시된 추출 텍스트 읽기 실패: " + e.getMessage());
+                return Optional.empty();
+            }
+        });
+    }
+
+    public void put(String key, ExtractedText extracted) {
+        if (extracted.spillFile() == null) {
+            cache.put(key, new CachedText(extracted.text(), null, extracted.length(), extracted.truncated()));
+            return;
+        }
+        try {
+            Files.createDirectories(fileDirectory);
+            String name = UUID.randomUUID() + FILE_SUFFIX;
+            linkOrCopy(extracted.spillFile(), fileDirectory.resolve(name));
+            cache.put(key, new CachedText(null, name, extracted.length(), extracted.truncated()));
+            pruneFiles();
+        } catch (IOException e) {
+            log.warning("추출 텍스트 캐시 파일 저장 실패: " + e.getMessage());
+        }
+    }
+
+    // 파일 내용 해시 + 확장자 (같은 내용이라도 확장자에 따라 형식 검출이 달라질 수 있음)
+    public String keyOf(Path file, String fileName) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        String extension = fileName != null ? StringUtils.getFilenameExtension(fileName) : null;
+        return KEY_VERSION + ":" + HexFormat.of().formatHex(digest.digest()) + ":"
+                + (extension != null ? extension.toLowerCase() : "");
+    }
+
+    private ExtractedText fromText(CachedText cached, int maxChars) {
+        String text = cached.text();
+        if (text.length() > maxChars) {
+            return new ExtractedText(text.substring(0, maxChars), null, maxChars, true);
+        }
+        // 이전 추출이 더 작은 예산에서 잘린 경우 - 지금 예산으로 다시 추출
+        if (cached.truncated() && text.length() < maxChars) {
+            return null;
+        }
+        return new ExtractedText(text, null, text.length(), cached.truncated());
+    }
+
+    private ExtractedText fromFile(CachedText cached, int maxChars) throws IOException {
+        Path source = fileDirectory.resolve(cached.textFile());
+        if (!Files.isRegularFile(source)) {
+            return null;
+        }
+        // 이전 추출이 더 작은 예산에서 잘린 경우 - 지금 예산으로 다시 추출
+        if (cached.truncated() && cached.length() < maxChars) {
+            return null;
+        }
+        Files.setLastModifiedTime(source, FileTime.fromMillis(System.currentTimeMillis()));
+        Files.createDirectories(spillDirectory);
+        Path target = spillDirectory.resolve("extracted-" + UUID.randomUUID() + FILE_SUFFIX);
+        if (cached.length() <= maxChars) {
+            linkOrCopy(source, target);
+            return new ExtractedText(null, target, cached.length(), cached.truncated());
+        }
+        // 예산이 더 작으면 앞부분만 새 파일로 복사 (문자 단위)
+        try (Reader in = Files.newBufferedReader(source, StandardCharsets.UTF_8);
+             Writer out = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            char[] buffer = new char[BUFFER_SIZE];
+            long remaining = maxChars;
+            int read;
+            while (remaining > 0 && (read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining))) != -1) {
+                out.write(buffer, 0, read);
+                remaining -= read;
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(target);
+            throw e;
+        }
+        return new ExtractedText(null, target, maxChars, true);
+    }
+
+    // 같은 파일 시스템이면 하드 링크 (복사 없음), 아니면 복사
+    private void linkOrCopy(Path source, Path target) throws IOException {
+        try {
+            Files.createLink(target, source);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(source, target);
+        }
+    }
+
+    // 파일 디렉토리 크기 상한 - 수정 시각(적중 시 갱신)이 오래된 파일부터 삭제
+    private synchronized void pruneFiles() throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(fileDirectory)) {
+            files = stream.filter(file -> file.getFileName().toString().endsWith(FILE_SUFFIX))
+                    .sorted(Comparator.comparingLong(this::lastModified))
+                    .toList();
+        }
+        long total = 0;
+        for (Path file : files) {
+            total += size(file);
+        }
+        for (Path file : files) {
+            if (total <= maxFileSize.toBytes()) {
+                break;
+            }
+            total -= size(file);
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private long size(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * @param text     메모리에 보관하는 텍스트 (파일로 보관하면 null)
+     * @param textFile 파일로 보관한 텍스트의 파일 이름 (file-directory 기준)
+     */
+    public record CachedText(
+            String text,
+            String textFile,
+            long length,
+            boolean truncated
+    ) {
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.feedbackservice.summary.service.file;
+
+import org.apache.tika.sax.ContentHandlerDecorator;
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+
+/**
+ * 페이지 / 슬라이드 끝에 페이지 나눔 문자(\f) 출력
+ * - Tika XHTML 출력의 <div class="page"> (PDF), <div class="slide-content"> (PPTX)
+ * - 요약 단계에서 긴 문서를 페이지 경계로 나누는 데 사용
+ */
+class PageBreakHandler extends ContentHandlerDecorator {
+
+    private static final Set<String> PAGE_CLASSES = Set.of("page", "slide-content");
+    private static final char[] PAGE_BREAK = {'\f'};
+
+    // 열린 div마다 페이지 div인지
+    private final Deque<Boolean> divs = new ArrayDeque<>();
+
+    PageBreakHandler(ContentHandler handler) {
+        super(handler);
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String name, Attributes atts) throws SAXException {
+        if ("div".equals(localName)) {
+            divs.push(PAGE_CLASSES.contains(atts.getValue("class")));
+        }
+        super.startElement(uri, localName, name, atts);
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String name) throws SAXException {
+        super.endElement(uri, localName, name);
+        if ("div".equals(localName) && !divs.isEmpty() && divs.pop()) {
+            super.characters(PAGE_BREAK, 0, PAGE_BREAK.length);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.feedbackservice.summary.service.file;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 추출 텍스트 출력 - spill-threshold 문자까지는 메모리에 쌓고, 넘으면 임시 파일로 옮겨 이어서 기록
+ * - spillThreshold <= 0 이면 항상 메모리
+ */
+class SpillingWriter extends Writer {
+
+    private final long spillThreshold;
+    private final Path spillDirectory;
+
+    private StringBuilder buffer = new StringBuilder();
+    private Path spillFile;
+    private Writer fileWriter;
+    private long length;
+
+    SpillingWriter(long spillThreshold, Path spillDirectory) {
+        this.spillThreshold = spillThreshold;
+        this.spillDirectory = spillDirectory;
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int count) throws IOException {
+        if (fileWriter == null && spillThreshold > 0 && buffer.length() + count > spillThreshold) {
+            spill();
+        }
+        if (fileWriter != null) {
+            fileWriter.write(chars, offset, count);
+        } else {
+            buffer.append(chars, offset, count);
+        }
+        length += count;
+    }
+
+    private void spill() throws IOException {
+        Files.createDirectories(spillDirectory);
+        spillFile = Files.createTempFile(spillDirectory, "extracted-", ".txt");
+        fileWriter = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8);
+        fileWriter.append(buffer);
+        buffer = null;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (fileWriter != null) {
+            fileWriter.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (fileWriter != null) {
+            fileWriter.close();
+        }
+    }
+
+    ExtractedText toExtractedText(boolean truncated) throws IOException {
+        close();
+        return new ExtractedText(buffer == null ? null : buffer.toString(), spillFile, length, truncated);
+    }
+
+    // 추출 실패 시 임시 파일 정리
+    void discard() {
+        try {
+            close();
+            if (spillFile != null) {
+                Files.deleteIfExists(spillFile);
+            }
+        } catch (IOException ignored) {
+            // 임시 디렉토리 정리에 맡김
+        }
+    }
+}
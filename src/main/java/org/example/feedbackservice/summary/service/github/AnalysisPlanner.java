@@ -0,0 +1,194 @@
+package org.example.feedbackservice.summary.service.github;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.java.Log;
+import org.example.feedbackservice.summary.model.dto.GitTreeEntry;
+import org.example.feedbackservice.summary.service.analyzer.CodeAnalyzer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 코드 분석 대상 선정 (내용 조회 전, 트리 목록만 사용)
+ * - 의존성 / 빌드 산출물 / 생성 코드 / 압축(min) 파일 제외
+ * - 트리의 size로 크기 상한 초과 파일 제외
+ * - 중요도 순(진입점 > 컨트롤러 / 서비스 등 역할 파일 > 일반 > 테스트 / 예제, 얕은 경로 우선)으로 바이트 예산까지 선택
+ * - 여러 저장소를 함께 분석하면 예산을 저장소 수로 나눠 사용
+ * - Selection으로 트리 스트림을 받는 대로 누적 - 전체 트리가 아닌 분석 후보만 보관
+ */
+@Component
+@RequiredArgsConstructor
+@Log
+public class AnalysisPlanner {
+
+    private static final Set<String> ENTRY_POINTS = Set.of(
+            "main", "app", "index", "server", "program", "lib", "manage", "cli", "__main__", "startup");
+
+    private static final List<String> ROLE_KEYWORDS = List.of(
+            "controller", "service", "handler", "router", "route", "resolver", "usecase", "api",
+            "repository", "domain", "model", "entity", "schema", "store", "middleware", "config");
+
+    private static final List<String> LOW_PRIORITY_DIRS = List.of(
+            "example", "sample", "demo", "doc", "benchmark", "script", "migration", "fixture", "mock");
+
+    private static final List<String> GENERATED_MARKERS = List.of(
+            ".min.", ".bundle.", ".generated.", ".g.", ".designer.", "_pb2.", ".pb.", "_generated.");
+
+    private final CodeAnalyzer codeAnalyzer;
+
+    @Value("${github.analysis.plan.excluded-dirs:node_modules,vendor,third_party,dist,build,out,target,obj,"
+            + "coverage,generated,gen,__pycache__,venv,env,Pods,DerivedData}")
+    private Set<String> excludedDirs;
+
+    @Value("${github.analysis.plan.max-file-size:256KB}")
+    private DataSize maxFileSize;
+
+    @Value("${github.analysis.plan.byte-budget:4MB}")
+    private DataSize byteBudget;
+
+    @Value("${github.analysis.plan.max-files:500}")
+    private int maxFiles;
+
+    // shares: 예산을 나눠 쓰는 저장소 수 (포트폴리오 단위 공유 예산)
+    public AnalysisPlan plan(List<GitTreeEntry> tree, int shares) {
+        Selection selection = selection();
+        tree.forEach(selection::add);
+        return selection.plan(shares);
+    }
+
+    // 트리 항목을 받는 대로 누적하는 선정기 - 분석 후보(지원 언어, 제외 규칙 / 크기 상한 통과)만 보관
+    public Selection selection() {
+        return new Selection();
+    }
+
+    public final class Selection {
+
+        private final List<GitTreeEntry> candidates = new ArrayList<>();
+        private int excluded;
+        private int oversized;
+
+        private Selection() {
+        }
+
+        public Selection add(GitTreeEntry entry) {
+            if (!entry.isBlob() || !codeAnalyzer.supports(entry.path())) {
+                return this;
+            }
+            if (!isCandidate(entry.path())) {
+                excluded++;
+            } else if (entry.size() > maxFileSize.toBytes()) {
+                oversized++;
+            } else {
+                candidates.add(entry);
+            }
+            return this;
+        }
+
+        public AnalysisPlan plan(int shares) {
+            List<GitTreeEntry> sorted = new ArrayList<>(candidates);
+            sorted.sort(Comparator.comparingInt((GitTreeEntry entry) -> -score(entry.path()))
+                    .thenComparing(GitTreeEntry::path));
+
+            List<GitTreeEntry> selected = new ArrayList<>();
+            long budget = byteBudget.toBytes() / shares;
+            int fileLimit = Math.max(1, maxFiles / shares);
+            long total = 0;
+            for (GitTreeEntry entry : sorted) {
+                if (selected.size() >= fileLimit) {
+                    break;
+                }
+                if (total + entry.size() > budget) {
+                    continue;
+                }
+                selected.add(entry);
+                total += entry.size();
+            }
+
+            AnalysisPlan plan = new AnalysisPlan(selected, sorted.size() + excluded + oversized,
+                    excluded, oversized, sorted.size() - selected.size(), total);
+            log.info("분석 대상 선정: %d/%d개, %d bytes (제외 %d, 크기 초과 %d, 예산 초과 %d)".formatted(
+                    selected.size(), plan.candidates(), total, excluded, oversized, plan.overBudget()));
+            return plan;
+        }
+    }
+
+    // 의존성 / 산출물 / 숨김 디렉토리, 생성 / 압축 파일이 아닌지
+    public boolean isCandidate(String path) {
+        String[] segments = path.split("/");
+        for (int i = 0; i < segments.length - 1; i++) {
+            if (segments[i].startsWith(".") || excludedDirs.contains(segments[i])) {
+                return false;
+            }
+        }
+        String name = segments[segments.length - 1].toLowerCase(Locale.ROOT);
+        if (name.endsWith(".d.ts")) {
+            return false;
+        }
+        return GENERATED_MARKERS.stream().noneMatch(name::contains);
+    }
+
+    private int score(String path) {
+        String lower = path.toLowerCase(Locale.ROOT);
+        int slash = lower.lastIndexOf('/');
+        String name = lower.substring(slash + 1);
+        int dot = name.indexOf('.');
+        String stem = dot > 0 ? name.substring(0, dot) : name;
+        String directory = slash > 0 ? lower.substring(0, slash + 1) : "";
+
+        int score = 0;
+        if (ENTRY_POINTS.contains(stem) || stem.endsWith("application")) {
+            score += 50;
+        }
+        if (ROLE_KEYWORDS.stream().anyMatch(lower::contains)) {
+            score += 30;
+        }
+        if (isTest(directory, name, stem)) {
+            score -= 40;
+        }
+        if (LOW_PRIORITY_DIRS.stream().anyMatch(directory::contains)) {
+            score -= 20;
+        }
+        return score - 3 * (int) lower.chars().filter(c -> c == '/').count();
+    }
+
+    private boolean isTest(String directory, String name, String stem) {
+        return directory.contains("test/") || directory.contains("tests/") || directory.contains("__tests__/")
+                || directory.contains("spec/")
+                || name.contains(".test.") || name.contains(".spec.") || name.contains("_test.")
+                || stem.startsWith("test_") || stem.endsWith("test") || stem.endsWith("tests");
+    }
+
+    /**
+     * @param files      분석할 파일 (중요도 순)
+     * @param candidates 지원 언어 파일 수
+     * @param overBudget 바이트 예산 / 파일 수 상한으로 생략된 파일 수
+     */
+    public record AnalysisPlan(
+            List<GitTreeEntry> files,
+            int candidates,
+            int excluded,
+            int oversized,
+            int overBudget,
+            long totalBytes
+    ) {
+        public Set<String> paths() {
+            return files.stream().map(GitTreeEntry::path).collect(Collectors.toSet());
+        }
+
+        // 생략된 파일이 있으면 코드 구조 끝에 덧붙일 안내
+        public String note() {
+            if (files.size() == candidates) {
+                return "";
+            }
+            return "⚠️ 분석 대상 %d/%d개 (의존성·생성 코드 %d, 크기 초과 %d, 분석 예산 초과 %d개 생략)\n".formatted(
+                    files.size(), candidates, excluded, oversized, overBudget);
+        }
+    }
+}
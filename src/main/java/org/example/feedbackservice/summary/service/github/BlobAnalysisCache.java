@@ -0,0 +1,58 @@
+package org.example.feedbackservice.summary.service.github;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.example.feedbackservice.common.cache.PersistentLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Optional;
+
+/**
+ * blob SHA 기준 파일 분석 결과 캐시 (내용 주소 방식)
+ * - 포크 / 템플릿 / 스타터 프로젝트처럼 같은 내용의 파일은 저장소가 달라도 한 번만 다운로드 / 분석
+ * - directory를 노드 간 공유 볼륨으로 지정하면 메모리에 없는 항목은 다른 노드가 기록한 파일에서 읽음 (PersistentLruCache read-through)
+ * - 분석기 출력 형식이 바뀌면 KEY_VERSION을 올려 이전 결과를 무효화
+ */
+@Component
+@RequiredArgsConstructor
+public class BlobAnalysisCache {
+
+    // GitHubAnalysisStore가 저장하는 파일별 분석에도 같은 버전을 기록
+    static final String KEY_VERSION = "v3";
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${github.analysis.blob-cache.max-size:32MB}")
+    private DataSize maxSize;
+
+    @Value("${github.analysis.blob-cache.directory:}")
+    private String directory;
+
+    private PersistentLruCache<String> cache;
+
+    @PostConstruct
+    void init() {
+        cache = new PersistentLruCache<>("github.blob-analysis", maxSize, directory, String.class,
+                analysis -> 2L * analysis.length() + 64, objectMapper, meterRegistry);
+    }
+
+    public Optional<String> get(String blobSha, String path) {
+        return cache.get(keyOf(blobSha, path));
+    }
+
+    public void put(String blobSha, String path, String analysis) {
+        cache.put(keyOf(blobSha, path), analysis);
+    }
+
+    // 같은 내용이라도 확장자에 따라 분석기가 다르므로 확장자를 키에 포함
+    public String keyOf(String blobSha, String path) {
+        String extension = StringUtils.getFilenameExtension(path);
+        return KEY_VERSION + ":" + blobSha + ":" + (extension != null ? extension.toLowerCase() : "");
+    }
+}
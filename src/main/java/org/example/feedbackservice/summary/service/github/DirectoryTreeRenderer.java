@@ -0,0 +1,123 @@
+package org.example.feedbackservice.summary.service.github;
+
+import org.example.feedbackservice.summary.model.dto.GitTreeEntry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 디렉토리 구조 요약 (LLM 프롬프트용)
+ * - 경로를 트라이로 모아 들여쓰기로 표현 - 공통 경로를 반복하지 않음
+ * - 하위 디렉토리가 하나뿐인 경로는 한 줄로 합침 (src/main/java/org/example/)
+ * - 파일이 많은 디렉토리는 확장자별 개수로 접고, max-depth 아래는 하위 전체를 개수로만 표시
+ */
+@Component
+public class DirectoryTreeRenderer {
+
+    private static final int MAX_EXTENSIONS = 5;
+    private static final String NO_EXTENSION = "기타";
+
+    @Value("${github.directory-tree.max-depth:5}")
+    private int maxDepth;
+
+    @Value("${github.directory-tree.max-files-per-dir:8}")
+    private int maxFilesPerDir;
+
+    public String render(Node root) {
+        StringBuilder sb = new StringBuilder();
+        render(root, 0, sb);
+        return sb.toString();
+    }
+
+    private void render(Node node, int depth, StringBuilder sb) {
+        String indent = "  ".repeat(depth);
+        for (Map.Entry<String, Node> child : node.children.entrySet()) {
+            StringBuilder name = new StringBuilder(child.getKey());
+            Node directory = child.getValue();
+            while (directory.files.isEmpty() && directory.children.size() == 1) {
+                Map.Entry<String, Node> only = directory.children.firstEntry();
+                name.append('/').append(only.getKey());
+                directory = only.getValue();
+            }
+            sb.append(indent).append(name).append('/');
+            if (depth + 1 >= maxDepth) {
+                sb.append(' ').append(summary(directory.extensionCounts(true))).append('\n');
+                continue;
+            }
+            sb.append('\n');
+            render(directory, depth + 1, sb);
+        }
+
+        if (node.files.size() > maxFilesPerDir) {
+            sb.append(indent).append(summary(node.extensionCounts(false))).append('\n');
+            return;
+        }
+        for (String file : node.files) {
+            sb.append(indent).append(file).append('\n');
+        }
+    }
+
+    // "(파일 12개: java 10, xml 2)" - 개수가 많은 확장자 순
+    private String summary(Map<String, Integer> counts) {
+        int total = counts.values().stream().mapToInt(Integer::intValue).sum();
+        List<Map.Entry<String, Integer>> sorted = new ArrayList<>(counts.entrySet());
+        sorted.sort(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+
+        StringBuilder sb = new StringBuilder("(파일 ").append(total).append("개");
+        int shown = Math.min(sorted.size(), MAX_EXTENSIONS);
+        for (int i = 0; i < shown; i++) {
+            sb.append(i == 0 ? ": " : ", ").append(sorted.get(i).getKey()).append(' ').append(sorted.get(i).getValue());
+        }
+        if (sorted.size() > shown) {
+            int rest = sorted.subList(shown, sorted.size()).stream().mapToInt(Map.Entry::getValue).sum();
+            sb.append(", 그 외 ").append(rest);
+        }
+        return sb.append(')').toString();
+    }
+
+    /**
+     * 디렉토리 트라이 노드 - 트리 항목이 도착하는 대로 add로 누적
+     */
+    public static class Node {
+
+        private final TreeMap<String, Node> children = new TreeMap<>();
+        private final List<String> files = new ArrayList<>();
+
+        // 파일 항목만 추가 (디렉토리는 파일 경로로부터 생성)
+        public Node add(GitTreeEntry entry) {
+            if (entry.isTree()) {
+                return this;
+            }
+            String[] segments = entry.path().split("/");
+            Node node = this;
+            for (int i = 0; i < segments.length - 1; i++) {
+                node = node.children.computeIfAbsent(segments[i], key -> new Node());
+            }
+            node.files.add(segments[segments.length - 1]);
+            return this;
+        }
+
+        private Map<String, Integer> extensionCounts(boolean recursive) {
+            Map<String, Integer> counts = new HashMap<>();
+            collect(counts, recursive);
+            return counts;
+        }
+
+        private void collect(Map<String, Integer> counts, boolean recursive) {
+            for (String file : files) {
+                int dot = file.lastIndexOf('.');
+                counts.merge(dot > 0 ? file.substring(dot + 1) : NO_EXTENSION, 1, Integer::sum);
+            }
+            if (recursive) {
+                children.values().forEach(child -> child.collect(counts, true));
+            }
+        }
+    }
+}
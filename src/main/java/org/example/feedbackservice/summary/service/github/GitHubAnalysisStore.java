@@ -0,0 +1,175 @@
+package org.example.feedbackservice.summary.service.github;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.java.Log;
+import org.example.feedbackservice.summary.model.dto.FileAnalysis;
+import org.example.feedbackservice.summary.model.dto.GitHubSummaryDTO;
+import org.example.feedbackservice.summary.model.entity.GitHubAnalysis;
+import org.example.feedbackservice.summary.model.repository.GitHubAnalysisRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 커밋 SHA 기준 GitHub 분석 결과 저장소
+ * - (owner, repo, HEAD SHA)가 같으면 이전 분석 결과와 LLM 요약을 그대로 재사용
+ * - 커밋이 바뀐 경우 가장 최근 분석의 파일별 결과를 증분 분석 기준으로 제공
+ *   파일별 결과는 분석기 버전(BlobAnalysisCache.KEY_VERSION)과 함께 기록 - 버전이 다르면 제공하지 않음
+ * - 저장소별로 최근 history건만 보관 (저장 시 오래된 분석 삭제)
+ * - 조회/저장 실패는 캐시 미스로 처리 (분석 자체는 계속 진행)
+ */
+@Component
+@RequiredArgsConstructor
+@Log
+public class GitHubAnalysisStore {
+
+    private static final TypeReference<List<FileAnalysis>> FILE_ANALYSES_TYPE = new TypeReference<>() {
+    };
+
+    private final GitHubAnalysisRepository analysisRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${github.analysis.history:3}")
+    private int history;
+
+    public Mono<GitHubSummaryDTO> find(String owner, String repo, String commitSha) {
+        return Mono.fromCallable(() -> analysisRepository.findByOwnerAndRepoAndCommitSha(owner, repo, commitSha))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(this::toDto)
+                .doOnNext(dto -> log.info("GitHub 분석 캐시 적중: " + owner + "/" + repo + "@" + commitSha))
+                .onErrorResume(e -> {
+                    log.warning("GitHub 분석 캐시 조회 실패: " + e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    // 저장소의 가장 최근 분석 (커밋 무관)
+    public Mono<GitHubSummaryDTO> findLatest(String owner, String repo) {
+        return Mono.fromCallable(() -> analysisRepository.findTopByOwnerAndRepoOrderByCreatedAtDesc(owner, repo))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(this::toDto)
+                .onErrorResume(e -> {
+                    log.warning("이전 GitHub 분석 조회 실패: " + e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    public Mono<GitHubSummaryDTO> save(GitHubSummaryDTO dto) {
+        return Mono.fromCallable(() -> analysisRepository.save(toEntity(dto)))
+                .doOnNext(saved -> prune(dto.getOwner(), dto.getRepo()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .thenReturn(dto)
+                .onErrorResume(e -> {
+                    if (!(e instanceof DataIntegrityViolationException)) { // 동시 분석으로 이미 저장된 경우 제외
+                        log.warning("GitHub 분석 캐시 저장 실패: " + e.getMessage());
+                    }
+                    return Mono.just(dto);
+                });
+    }
+
+    // LLM GitHub 요약 저장
+    public Mono<Void> saveGithubSummary(GitHubSummaryDTO dto, String githubSummary) {
+        return Mono.fromRunnable(() -> {
+                    GitHubAnalysis analysis = analysisRepository.findByOwnerAndRepoAndCommitSha(
+                            dto.getOwner(), dto.getRepo(), dto.getCommitSha());
+                    if (analysis != null) {
+                        analysis.setGithubSummary(githubSummary);
+                        analysisRepository.save(analysis);
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .then()
+                .onErrorResume(e -> {
+                    log.warning("GitHub 요약 캐시 저장 실패: " + e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    // 최근 history건을 제외한 이전 분석 삭제 - 실패해도 다음 저장에서 다시 정리
+    private void prune(String owner, String repo) {
+        try {
+            List<Long> ids = analysisRepository.findIdsByOwnerAndRepoNewestFirst(owner, repo);
+            if (ids.size() > history) {
+                analysisRepository.deleteAllByIdInBatch(ids.subList(Math.max(1, history), ids.size()));
+            }
+        } catch (Exception e) {
+            log.warning("이전 GitHub 분석 정리 실패: " + e.getMessage());
+        }
+    }
+
+    private GitHubSummaryDTO toDto(GitHubAnalysis analysis) {
+        GitHubSummaryDTO dto = new GitHubSummaryDTO();
+        dto.setOwner(analysis.getOwner());
+        dto.setRepo(analysis.getRepo());
+        dto.setCommitSha(analysis.getCommitSha());
+        dto.setDirectoryTree(analysis.getDirectoryTree());
+        dto.setLanguages(analysis.getLanguages());
+        dto.setCodeStructure(analysis.getCodeStructure());
+        dto.setReadmeSummary(analysis.getReadmeSummary());
+        dto.setCommitSummary(analysis.getCommitSummary());
+        dto.setCiCd(analysis.getCiCd());
+        dto.setFinalSummary(analysis.getGithubSummary());
+        dto.setFileAnalyses(readFileAnalyses(analysis.getFileAnalyses()));
+        return dto;
+    }
+
+    private GitHubAnalysis toEntity(GitHubSummaryDTO dto) {
+        GitHubAnalysis analysis = new GitHubAnalysis();
+        analysis.setOwner(dto.getOwner());
+        analysis.setRepo(dto.getRepo());
+        analysis.setCommitSha(dto.getCommitSha());
+        analysis.setDirectoryTree(dto.getDirectoryTree());
+        analysis.setLanguages(dto.getLanguages());
+        analysis.setCodeStructure(dto.getCodeStructure());
+        analysis.setReadmeSummary(dto.getReadmeSummary());
+        analysis.setCommitSummary(dto.getCommitSummary());
+        analysis.setCiCd(dto.getCiCd());
+        analysis.setGithubSummary(dto.getFinalSummary());
+        analysis.setFileAnalyses(writeFileAnalyses(dto.getFileAnalyses()));
+        return analysis;
+    }
+
+    // 다른 분석기 버전(버전 기록 이전 형식 포함)의 결과는 재사용하지 않음
+    private List<FileAnalysis> readFileAnalyses(String json) {
+        if (json == null || json.isBlank()) {
+            return Collections.emptyList();
+        }
+        try {
+            JsonNode node = objectMapper.readTree(json);
+            if (!BlobAnalysisCache.KEY_VERSION.equals(node.path("version").asText(null))) {
+                return Collections.emptyList();
+            }
+            return objectMapper.convertValue(node.get("files"), FILE_ANALYSES_TYPE);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.warning("파일별 분석 결과 변환 실패: " + e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    private String writeFileAnalyses(List<FileAnalysis> fileAnalyses) {
+        if (fileAnalyses == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(new StoredFileAnalyses(BlobAnalysisCache.KEY_VERSION, fileAnalyses));
+        } catch (JsonProcessingException e) {
+            log.warning("파일별 분석 결과 변환 실패: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private record StoredFileAnalyses(
+            String version,
+            List<FileAnalysis> files
+    ) {
+    }
+}
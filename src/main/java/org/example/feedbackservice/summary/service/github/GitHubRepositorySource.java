@@ -0,0 +1,102 @@
+package org.example.feedbackservice.summary.service.github;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.java.Log;
+import org.example.feedbackservice.summary.client.GitHubClient;
+import org.example.feedbackservice.summary.model.dto.GitTreeEntry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * GitHub API 저장소 원천
+ * - 재귀 트리는 응답을 스트리밍으로 디코딩해 항목 단위로 발행, blob은 git/blobs 조회
+ * - 메타데이터는 github.metadata.mode에 따라 REST 또는 GraphQL
+ */
+@Component
+@RequiredArgsConstructor
+@Log
+public class GitHubRepositorySource implements RepositorySource {
+
+    private static final String METADATA_GRAPHQL = "graphql";
+
+    private final GitHubClient gitHubClient;
+    private final RestRepositoryMetadataClient restMetadataClient;
+    private final GraphQlRepositoryMetadataClient graphQlMetadataClient;
+
+    // 메타데이터(HEAD / 언어 / 커밋 / README) 조회 방식: rest (항목별 호출) | graphql (1회 요청, 실패 시 REST)
+    @Value("${github.metadata.mode:rest}")
+    private String metadataMode;
+
+    /**
+     * 재귀 트리 조회 (git/trees?recursive=true)
+     * - 항목을 보관(cache)하지 않음 - 구독할 때마다 요청하므로 한 번만 구독 (ETag 캐시 적중 시 본문 재전송 없음)
+     * - 항목 수가 GitHub 상한을 넘으면 일부만 반환됨 (truncated) - entries 완료 후 truncated로 확인
+     */
+    @Override
+    public RepositoryTree fetchTree(String owner, String repo, String sha) {
+        Map<String, JsonNode> fields = new ConcurrentHashMap<>();
+        Flux<GitTreeEntry> entries = gitHubClient.getArray("/repos/{owner}/{repo}/git/trees/{sha}?recursive=true",
+                        "tree", fields, owner, repo, sha)
+                .map(item -> new GitTreeEntry(
+                        item.get("path").asText(),
+                        item.get("type").asText(),
+                        item.get("sha").asText(),
+                        item.path("size").asLong(0)));
+        Mono<Boolean> truncated = Mono.fromSupplier(() -> fields.getOrDefault("truncated", BooleanNode.FALSE).asBoolean())
+                .doOnNext(value -> {
+                    if (value) {
+                        log.warning("트리 항목 수 상한 초과로 일부만 조회됨: " + owner + "/" + repo);
+                    }
+                });
+        return new RepositoryTree(entries, truncated);
+    }
+
+    // blob 내용 base64 디코딩
+    @Override
+    public Mono<String> fetchBlob(String owner, String repo, String sha) {
+        return gitHubClient.get("/repos/{owner}/{repo}/git/blobs/{sha}", owner, repo, sha)
+                .map(json -> json.get("content").asText())
+                .map(Base64.getMimeDecoder()::decode)
+                .map(bytes -> new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public Mono<String> fetchHeadSha(String owner, String repo) {
+        return metadataClient().fetchHeadSha(owner, repo);
+    }
+
+    @Override
+    public Mono<Instant> fetchUpdatedAt(String owner, String repo) {
+        return metadataClient().fetchUpdatedAt(owner, repo);
+    }
+
+    @Override
+    public Mono<String> fetchLanguages(String owner, String repo) {
+        return metadataClient().fetchLanguages(owner, repo);
+    }
+
+    @Override
+    public Mono<List<String>> fetchCommitMessages(String owner, String repo) {
+        return metadataClient().fetchCommitMessages(owner, repo);
+    }
+
+    @Override
+    public Mono<String> fetchReadme(String owner, String repo) {
+        return metadataClient().fetchReadme(owner, repo);
+    }
+
+    private RepositoryMetadataClient metadataClient() {
+        return METADATA_GRAPHQL.equals(metadataMode) ? graphQlMetadataClient : restMetadataClient;
+    }
+}
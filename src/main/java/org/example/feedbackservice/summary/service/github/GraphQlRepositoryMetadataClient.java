@@ -0,0 +1,140 @@
+package org.example.feedbackservice.summary.service.github;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.java.Log;
+import org.example.feedbackservice.common.exception.GitHubManagementException;
+import org.example.feedbackservice.summary.client.GitHubClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * GraphQL 메타데이터 조회 - 기본 브랜치 HEAD / 갱신 시각 / 언어 / 최근 커밋 / README를 한 번의 요청으로 조회
+ * - 같은 실행 안의 항목별 호출은 요청 메모로 같은 응답을 공유 (왕복 1회)
+ * - GraphQL 요청이 실패하면 해당 항목만 REST로 대체
+ * - README는 조회하는 이름(README_ALIASES) 외의 파일명(README.txt, docs/README.md 등)이거나 본문이 없으면(큰 / 바이너리 blob) REST /readme로 대체
+ */
+@Component
+@RequiredArgsConstructor
+@Log
+public class GraphQlRepositoryMetadataClient implements RepositoryMetadataClient {
+
+    // REST /commits 기본 페이지 크기와 동일
+    private static final int COMMIT_COUNT = 30;
+
+    private static final List<String> README_ALIASES = List.of("readmeMd", "readmeLowerMd", "readme", "readmeRst");
+
+    private static final String QUERY = """
+            query RepositoryMetadata($owner: String!, $name: String!, $commits: Int!) {
+              repository(owner: $owner, name: $name) {
+                updatedAt
+                defaultBranchRef {
+                  target {
+                    oid
+                    ... on Commit {
+                      history(first: $commits) { nodes { message } }
+                    }
+                  }
+                }
+                languages(first: 100, orderBy: {field: SIZE, direction: DESC}) {
+                  edges { size node { name } }
+                }
+                readmeMd: object(expression: "HEAD:README.md") { ... on Blob { text } }
+                readmeLowerMd: object(expression: "HEAD:readme.md") { ... on Blob { text } }
+                readme: object(expression: "HEAD:README") { ... on Blob { text } }
+                readmeRst: object(expression: "HEAD:README.rst") { ... on Blob { text } }
+              }
+            }
+            """;
+
+    private final GitHubClient gitHubClient;
+    private final RestRepositoryMetadataClient restClient;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Mono<String> fetchHeadSha(String owner, String repo) {
+        return query(owner, repo, "HEAD SHA",
+                repository -> Mono.justOrEmpty(text(repository.path("defaultBranchRef").path("target").path("oid"))),
+                restClient.fetchHeadSha(owner, repo));
+    }
+
+    @Override
+    public Mono<Instant> fetchUpdatedAt(String owner, String repo) {
+        return query(owner, repo, "갱신 시각",
+                repository -> Mono.justOrEmpty(text(repository.path("updatedAt"))).map(Instant::parse),
+                restClient.fetchUpdatedAt(owner, repo));
+    }
+
+    // REST 응답과 같은 형식 ({"언어": 바이트 수})
+    @Override
+    public Mono<String> fetchLanguages(String owner, String repo) {
+        return query(owner, repo, "언어", repository -> {
+            ObjectNode languages = objectMapper.createObjectNode();
+            for (JsonNode edge : repository.path("languages").path("edges")) {
+                languages.put(edge.path("node").path("name").asText(), edge.path("size").asLong());
+            }
+            return Mono.just(languages.toPrettyString());
+        }, restClient.fetchLanguages(owner, repo));
+    }
+
+    @Override
+    public Mono<List<String>> fetchCommitMessages(String owner, String repo) {
+        return query(owner, repo, "커밋", repository -> {
+            List<String> messages = new ArrayList<>();
+            for (JsonNode commit : repository.path("defaultBranchRef").path("target").path("history").path("nodes")) {
+                messages.add(commit.path("message").asText());
+            }
+            return Mono.just(messages);
+        }, restClient.fetchCommitMessages(owner, repo));
+    }
+
+    @Override
+    public Mono<String> fetchReadme(String owner, String repo) {
+        Mono<String> rest = Mono.defer(() -> restClient.fetchReadme(owner, repo));
+        return query(owner, repo, "README", repository -> Mono.justOrEmpty(README_ALIASES.stream()
+                                .map(alias -> text(repository.path(alias).path("text")))
+                                .filter(Objects::nonNull)
+                                .findFirst())
+                        .switchIfEmpty(rest),
+                rest);
+    }
+
+    // 공통 조회 - 요청 실패(전송 오류 / GraphQL errors) 시 REST 대체
+    private <T> Mono<T> query(String owner, String repo, String item, Function<JsonNode, Mono<T>> extractor,
+                              Mono<T> fallback) {
+        return fetchRepository(owner, repo)
+                .onErrorMap(e -> new FallbackException(e))
+                .flatMap(extractor)
+                .onErrorResume(FallbackException.class, e -> {
+                    log.warning("GraphQL %s 조회 실패 - REST로 대체: %s".formatted(item, e.getCause().getMessage()));
+                    return fallback;
+                });
+    }
+
+    private Mono<JsonNode> fetchRepository(String owner, String repo) {
+        return gitHubClient.graphql(QUERY, Map.of("owner", owner, "name", repo, "commits", COMMIT_COUNT))
+                .map(data -> data.path("repository"))
+                .filter(JsonNode::isObject)
+                .switchIfEmpty(Mono.error(() -> new GitHubManagementException("저장소 없음: " + owner + "/" + repo)));
+    }
+
+    private String text(JsonNode node) {
+        return node.isTextual() ? node.asText() : null;
+    }
+
+    // GraphQL 요청 단계의 실패만 REST 대체 대상으로 구분 (추출 단계 오류는 그대로 전파)
+    private static class FallbackException extends RuntimeException {
+        FallbackException(Throwable cause) {
+            super(cause);
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package org.example.feedbackservice.summary.service.github;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.java.Log;
+import org.example.feedbackservice.common.exception.GitHubManagementException;
+import org.example.feedbackservice.summary.model.dto.GitTreeEntry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Scanner;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 로컬 git 저장소 원천 ({root}/{owner}/{repo} 또는 {root}/{owner}/{repo}.git)
+ * - 작업 디렉토리 / bare 저장소 모두 git CLI로 커밋된 내용(HEAD)을 읽음 - 네트워크, 요청 한도 없음
+ * - blob은 저장소별 git cat-file --batch 프로세스 하나로 읽음 (파일마다 프로세스를 띄우지 않음)
+ *   읽기는 command-timeout까지만 대기 - 초과 시 프로세스를 강제 종료하고 다음 요청에서 새로 시작
+ * - ls-tree는 -z(NUL 구분)로 읽음 - 특수 문자 / 비 ASCII 경로도 따옴표 처리 없이 그대로
+ * - 언어 정보는 GitHub linguist 대신 확장자별 파일 크기 합계로 근사
+ */
+@Component
+@RequiredArgsConstructor
+@Log
+public class LocalRepositorySource implements RepositorySource {
+
+    private static final int COMMIT_COUNT = 30;
+    private static final String COMMIT_SEPARATOR = "\u001e";
+    private static final String RECORD_SEPARATOR = "\u0000";
+
+    private static final Map<String, String> LANGUAGES = Map.ofEntries(
+            Map.entry("java", "Java"), Map.entry("kt", "Kotlin"), Map.entry("kts", "Kotlin"),
+            Map.entry("py", "Python"), Map.entry("js", "JavaScript"), Map.entry("jsx", "JavaScript"),
+            Map.entry("mjs", "JavaScript"), Map.entry("ts", "TypeScript"), Map.entry("tsx", "TypeScript"),
+            Map.entry("go", "Go"), Map.entry("rs", "Rust"), Map.entry("cs", "C#"), Map.entry("swift", "Swift"),
+            Map.entry("c", "C"), Map.entry("h", "C"), Map.entry("cpp", "C++"), Map.entry("hpp", "C++"),
+            Map.entry("rb", "Ruby"), Map.entry("php", "PHP"), Map.entry("dart", "Dart"), Map.entry("scala", "Scala"),
+            Map.entry("html", "HTML"), Map.entry("css", "CSS"), Map.entry("scss", "SCSS"), Map.entry("vue", "Vue"),
+            Map.entry("sh", "Shell"), Map.entry("sql", "SQL"));
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<Path, CatFileBatch> batches = new ConcurrentHashMap<>();
+
+    @Value("${github.source.local.root:}")
+    private String root;
+
+    @Value("${github.source.local.git-command:git}")
+    private String gitCommand;
+
+    @Value("${github.source.local.command-timeout:30s}")
+    private Duration commandTimeout;
+
+    @PreDestroy
+    void destroy() {
+        batches.values().forEach(CatFileBatch::close);
+    }
+
+    @Override
+    public Mono<String> fetchHeadSha(String owner, String repo) {
+        return blocking(() -> git(repository(owner, repo), "rev-parse", "HEAD").trim());
+    }
+
+    @Override
+    public Mono<Instant> fetchUpdatedAt(String owner, String repo) {
+        return blocking(() -> OffsetDateTime.parse(
+                git(repository(owner, repo), "log", "-1", "--format=%cI", "HEAD").trim()).toInstant());
+    }
+
+    // 확장자별 크기 합계 - GitHub languages 응답과 같은 형식 (큰 순서)
+    @Override
+    public Mono<String> fetchLanguages(String owner, String repo) {
+        return fetchTree(owner, repo, "HEAD").entries()
+                .filter(GitTreeEntry::isBlob)
+                .reduceWith(LinkedHashMap<String, Long>::new, (sizes, entry) -> {
+                    String path = entry.path();
+                    String language = LANGUAGES.get(path.substring(path.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT));
+                    if (language != null) {
+                        sizes.merge(language, entry.size(), Long::sum);
+                    }
+                    return sizes;
+                })
+                .map(sizes -> {
+                    ObjectNode languages = objectMapper.createObjectNode();
+                    sizes.entrySet().stream()
+                            .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                            .forEach(size -> languages.put(size.getKey(), size.getValue()));
+                    return languages.toPrettyString();
+                });
+    }
+
+    @Override
+    public Mono<List<String>> fetchCommitMessages(String owner, String repo) {
+        return blocking(() -> Arrays.stream(git(repository(owner, repo), "log", "-n", String.valueOf(COMMIT_COUNT),
+                        "--format=%B" + COMMIT_SEPARATOR, "HEAD").split(COMMIT_SEPARATOR))
+                .map(String::strip)
+                .filter(message -> !message.isEmpty())
+                .toList());
+    }
+
+    // 최상위의 README* 파일 (readme/ 디렉토리 등 blob이 아닌 항목 제외)
+    @Override
+    public Mono<String> fetchReadme(String owner, String repo) {
+        return blocking(() -> {
+            Path repository = repository(owner, repo);
+            return Arrays.stream(git(repository, "ls-tree", "-z", "-l", "HEAD").split(RECORD_SEPARATOR))
+                    .filter(record -> !record.isEmpty())
+                    .map(this::parseTreeLine)
+                    .filter(entry -> entry.isBlob() && entry.path().toLowerCase(Locale.ROOT).startsWith("readme"))
+                    .map(GitTreeEntry::path)
+                    .findFirst()
+                    .orElse(null);
+        }).flatMap(name -> fetchObject(owner, repo, "HEAD:" + name));
+    }
+
+    // git ls-tree -r -t -l -z - 항목이 나오는 대로 발행, 끝나면 종료 코드 확인 (잘못된 sha 등은 빈 트리가 아닌 오류)
+    @Override
+    public RepositoryTree fetchTree(String owner, String repo, String sha) {
+        String[] args = {"ls-tree", "-r", "-t", "-l", "-z", sha};
+        Flux<GitTreeEntry> entries = Flux.using(
+                        () -> startWithoutInput(repository(owner, repo), args),
+                        process -> Flux.fromStream(new Scanner(process.getInputStream(), StandardCharsets.UTF_8)
+                                        .useDelimiter(RECORD_SEPARATOR)
+                                        .tokens())
+                                .concatWith(Mono.<String>fromRunnable(() -> awaitSuccess(process, args))),
+                        Process::destroyForcibly)
+                .map(this::parseTreeLine)
+                .subscribeOn(Schedulers.boundedElastic());
+        return new RepositoryTree(entries, Mono.just(false));
+    }
+
+    @Override
+    public Mono<String> fetchBlob(String owner, String repo, String sha) {
+        return fetchObject(owner, repo, sha);
+    }
+
+    // 시간 초과(앞선 요청 대기 포함) 시 프로세스를 강제 종료 - 멈춘 읽기가 풀리고 대기 중인 요청도 바로 실패
+    private Mono<String> fetchObject(String owner, String repo, String object) {
+        return blocking(() -> batches.computeIfAbsent(repository(owner, repo), CatFileBatch::new))
+                .flatMap(batch -> blocking(() -> {
+                            try {
+                                return new String(batch.read(object), StandardCharsets.UTF_8);
+                            } catch (IOException e) {
+                                // 프로세스 종료 등 - 다음 요청에서 새로 시작
+                                discard(batch);
+                                throw new GitHubManagementException("git 객체 읽기 실패: " + object + " - " + e.getMessage());
+                            }
+                        })
+                        .timeout(commandTimeout)
+                        .onErrorMap(TimeoutException.class, e -> {
+                            discard(batch);
+                            return new GitHubManagementException("git 객체 읽기 시간 초과: " + object);
+                        }));
+    }
+
+    private void discard(CatFileBatch batch) {
+        batches.remove(batch.repository, batch);
+        batch.close();
+    }
+
+    // "100644 blob {sha}    {size}\t{path}" (트리는 size가 "-", -z 출력이라 경로는 따옴표 처리 없음)
+    private GitTreeEntry parseTreeLine(String line) {
+        int tab = line.indexOf('\t');
+        String[] meta = line.substring(0, tab).trim().split("\\s+");
+        long size = "-".equals(meta[3]) ? 0 : Long.parseLong(meta[3]);
+        return new GitTreeEntry(line.substring(tab + 1), meta[1], meta[2], size);
+    }
+
+    private Path repository(String owner, String repo) {
+        Path base = Path.of(root).toAbsolutePath().normalize();
+        for (Path candidate : List.of(base.resolve(owner).resolve(repo), base.resolve(owner).resolve(repo + ".git"))) {
+            Path normalized = candidate.normalize();
+            if (normalized.startsWith(base) && Files.isDirectory(normalized)) {
+                return normalized;
+            }
+        }
+        throw new GitHubManagementException("로컬 저장소 없음: " + owner + "/" + repo);
+    }
+
+    // 출력은 별도 스레드에서 읽고, 종료는 command-timeout까지만 대기 (멈춘 git 프로세스는 강제 종료)
+    private String git(Path repository, String... args) throws Exception {
+        Process process = startWithoutInput(repository, args);
+        try {
+            CompletableFuture<byte[]> output = Mono.fromCallable(() -> process.getInputStream().readAllBytes())
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .toFuture();
+            awaitSuccess(process, args);
+            return new String(output.get(commandTimeout.toMillis(), TimeUnit.MILLISECONDS), StandardCharsets.UTF_8);
+        } catch (TimeoutException e) {
+            throw new GitHubManagementException("git 명령 출력 시간 초과: " + String.join(" ", args));
+        } finally {
+            process.destroyForcibly();
+        }
+    }
+
+    private void awaitSuccess(Process process, String... args) {
+        try {
+            if (!process.waitFor(commandTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                process.destroyForcibly();
+                throw new GitHubManagementException("git 명령 시간 초과: " + String.join(" ", args));
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+            throw new GitHubManagementException("git 명령 중단: " + String.join(" ", args));
+        }
+        if (process.exitValue() != 0) {
+            throw new GitHubManagementException("git 명령 실패(%d): %s".formatted(process.exitValue(),
+                    String.join(" ", args)));
+        }
+    }
+
+    // 표준 입력을 닫아 입력을 기다리며 멈추지 않도록 함
+    private Process startWithoutInput(Path repository, String... args) throws IOException {
+        Process process = start(repository, args);
+        process.getOutputStream().close();
+        return process;
+    }
+
+    // 자격 증명 프롬프트 등 대화형 입력 비활성화
+    private Process start(Path repository, String... args) throws IOException {
+        List<String> command = new ArrayList<>(List.of(gitCommand, "-C", repository.toString(), "-c", "core.quotePath=false"));
+        command.addAll(List.of(args));
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .redirectError(ProcessBuilder.Redirect.DISCARD);
+        builder.environment().put("GIT_TERMINAL_PROMPT", "0");
+        return builder.start();
+    }
+
+    private <T> Mono<T> blocking(Callable<T> task) {
+        return Mono.fromCallable(task).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // git cat-file --batch 프로세스 (저장소당 하나 유지, 요청은 순서대로 처리)
+    private final class CatFileBatch {
+
+        private final Path repository;
+        private final Process process;
+        private final OutputStream requests;
+        private final BufferedInputStream responses;
+
+        CatFileBatch(Path repository) {
+            this.repository = repository;
+            try {
+                process = start(repository, "cat-file", "--batch");
+            } catch (IOException e) {
+                throw new GitHubManagementException("git cat-file 시작 실패: " + e.getMessage());
+            }
+            requests = process.getOutputStream();
+            responses = new BufferedInputStream(process.getInputStream());
+        }
+
+        // 응답: "{sha} {type} {size}\n{내용}\n" 또는 "{object} missing\n"
+        synchronized byte[] read(String object) throws IOException {
+            requests.write((object + "\n").getBytes(StandardCharsets.UTF_8));
+            requests.flush();
+            String header = readLine();
+            String[] parts = header.split(" ");
+            if (parts.length != 3) {
+                throw new GitHubManagementException("git 객체 없음: " + object);
+            }
+            byte[] content = responses.readNBytes(Integer.parseInt(parts[2]));
+            responses.read(); // 내용 뒤 줄바꿈
+            return content;
+        }
+
+        private String readLine() throws IOException {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            int b;
+            while ((b = responses.read()) != '\n') {
+                if (b == -1) {
+                    throw new IOException("git cat-file 종료");
+                }
+                line.write(b);
+            }
+            return line.toString(StandardCharsets.UTF_8);
+        }
+
+        void close() {
+            process.destroyForcibly();
+        }
+    }
+}
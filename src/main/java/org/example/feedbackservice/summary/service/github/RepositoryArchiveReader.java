@@ -0,0 +1,213 @@
+package org.example.feedbackservice.summary.service.github;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.java.Log;
+import org.example.feedbackservice.summary.client.GitHubClient;
+import org.example.feedbackservice.summary.model.dto.FileAnalysis;
+import org.example.feedbackservice.summary.service.analyzer.CodeAnalyzer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * 저장소 아카이브(zipball) 기반 수집
+ * - 저장소를 한 번만 다운로드하고, 엔트리를 스트리밍으로 읽으며 바로 분석 (아카이브 전체를 메모리에 올리지 않음)
+ * - 코드 분석 / README / CI 워크플로우를 같은 스트림에서 추출
+ * - 엔트리별, 전체 다운로드 바이트 상한 적용
+ * - 코드 분석은 분석 대상으로 선정된 경로만 (AnalysisPlanner)
+ */
+@Component
+@RequiredArgsConstructor
+@Log
+public class RepositoryArchiveReader {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final String WORKFLOW_DIR = ".github/workflows/";
+
+    private final GitHubClient gitHubClient;
+    private final CodeAnalyzer codeAnalyzer;
+    private final BlobAnalysisCache blobAnalysisCache;
+
+    @Value("${github.ingestion.archive.max-entry-size:1MB}")
+    private DataSize maxEntrySize;
+
+    @Value("${github.ingestion.archive.max-total-size:100MB}")
+    private DataSize maxTotalSize;
+
+    public Mono<ArchiveContents> read(String owner, String repo, String ref, Predicate<String> selected) {
+        Flux<DataBuffer> body = gitHubClient.download("/repos/{owner}/{repo}/zipball/{ref}", owner, repo, ref);
+        return Mono.fromCallable(() -> {
+                    // 스트림을 닫으면 다운로드 구독도 취소됨 (상한 도달 시 조기 종료)
+                    try (InputStream in = DataBufferUtils.subscriberInputStream(body, 16)) {
+                        return readEntries(in, selected);
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private ArchiveContents readEntries(InputStream in, Predicate<String> selected) throws IOException {
+        CountingInputStream counting = new CountingInputStream(in, maxTotalSize.toBytes());
+        List<FileAnalysis> fileAnalyses = new ArrayList<>();
+        List<String> workflows = new ArrayList<>();
+        String readme = null;
+        boolean truncated = false;
+
+        try (ZipInputStream zip = new ZipInputStream(counting, StandardCharsets.UTF_8)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (entry.isDirectory()) {
+                    continue;
+                }
+                String path = stripRootDirectory(entry.getName());
+
+                if (path.startsWith(WORKFLOW_DIR)) {
+                    workflows.add(path.substring(WORKFLOW_DIR.length()));
+                } else if (readme == null && isRootReadme(path)) {
+                    byte[] bytes = readEntry(zip);
+                    readme = bytes != null ? new String(bytes, StandardCharsets.UTF_8) : null;
+                } else if (selected.test(path) && codeAnalyzer.supports(path)) {
+                    byte[] bytes = readEntry(zip);
+                    if (bytes != null) {
+                        fileAnalyses.add(analyzeEntry(path, bytes));
+                    }
+                }
+            }
+        } catch (TotalSizeExceededException e) {
+            // 읽던 엔트리는 버리고 그때까지의 결과만 사용
+            log.warning("아카이브 전체 크기 상한 초과 - 이후 엔트리 생략");
+            truncated = true;
+        }
+        return new ArchiveContents(fileAnalyses, readme, workflows, truncated);
+    }
+
+    // 같은 내용(blob SHA)의 분석 결과가 캐시에 있으면 재사용, 없으면 전용 분석 풀에서 분석
+    private FileAnalysis analyzeEntry(String path, byte[] bytes) {
+        String sha = gitBlobSha(bytes);
+        Optional<String> cached = blobAnalysisCache.get(sha, path);
+        if (cached.isPresent()) {
+            return new FileAnalysis(path, sha, cached.get());
+        }
+        try {
+            String analysis = codeAnalyzer.analyzeFileAsync(path, new String(bytes, StandardCharsets.UTF_8)).block();
+            blobAnalysisCache.put(sha, path, analysis);
+            return new FileAnalysis(path, sha, analysis);
+        } catch (RuntimeException e) {
+            // block()은 검사 예외(TimeoutException)를 감싸서 던짐
+            boolean timedOut = Exceptions.unwrap(e) instanceof TimeoutException;
+            log.warning("파일 분석 실패: " + path + " - " + e.getMessage());
+            return new FileAnalysis(path, null, timedOut ? "분석 시간 초과" : "분석 실패");
+        }
+    }
+
+    // 엔트리 내용 읽기 - 상한 초과 시 null (나머지는 closeEntry 시 건너뜀)
+    private byte[] readEntry(ZipInputStream zip) throws IOException {
+        long limit = maxEntrySize.toBytes();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = zip.read(buffer)) != -1) {
+            if (out.size() + read > limit) {
+                return null;
+            }
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    // git blob SHA-1 ("blob {length}\0" + 내용) - API 모드 트리의 blob SHA와 동일
+    private String gitBlobSha(byte[] bytes) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            digest.update(("blob " + bytes.length + "\0").getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest.digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // zipball 최상위 디렉토리({owner}-{repo}-{sha}/) 제거
+    private String stripRootDirectory(String name) {
+        int slash = name.indexOf('/');
+        return slash < 0 ? name : name.substring(slash + 1);
+    }
+
+    private boolean isRootReadme(String path) {
+        return path.indexOf('/') < 0 && path.toLowerCase().startsWith("readme");
+    }
+
+    public record ArchiveContents(
+            List<FileAnalysis> fileAnalyses,
+            String readme,
+            List<String> workflows,
+            boolean truncated
+    ) {
+    }
+
+    // 다운로드된(압축) 바이트 수 집계 - 상한을 넘는 순간 중단 (큰 엔트리 하나를 끝까지 읽지 않음)
+    private static class CountingInputStream extends FilterInputStream {
+        private final long limit;
+        private long count;
+
+        CountingInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                add(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                add(n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            add(skipped);
+            return skipped;
+        }
+
+        private void add(long n) throws TotalSizeExceededException {
+            count += n;
+            if (count > limit) {
+                throw new TotalSizeExceededException();
+            }
+        }
+    }
+
+    private static class TotalSizeExceededException extends IOException {
+    }
+}
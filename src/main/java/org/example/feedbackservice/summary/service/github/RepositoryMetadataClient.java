@@ -0,0 +1,28 @@
+package org.example.feedbackservice.summary.service.github;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 저장소 메타데이터 조회 (기본 브랜치 HEAD, 갱신 시각, 언어, 최근 커밋 메시지, README)
+ * - rest: 항목별 REST 호출 / graphql: 한 번의 GraphQL 요청으로 전체 조회 (실패 시 REST로 대체)
+ * - github.metadata.mode로 선택
+ */
+public interface RepositoryMetadataClient {
+
+    // 기본 브랜치 HEAD 커밋 SHA (빈 저장소면 empty)
+    Mono<String> fetchHeadSha(String owner, String repo);
+
+    Mono<Instant> fetchUpdatedAt(String owner, String repo);
+
+    // 언어별 바이트 수 JSON ({"Java": 12345, ...})
+    Mono<String> fetchLanguages(String owner, String repo);
+
+    // 기본 브랜치 최근 커밋 메시지 (최신순)
+    Mono<List<String>> fetchCommitMessages(String owner, String repo);
+
+    // README 본문 (없으면 empty)
+    Mono<String> fetchReadme(String owner, String repo);
+}
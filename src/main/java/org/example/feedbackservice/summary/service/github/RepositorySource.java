@@ -0,0 +1,17 @@
+package org.example.feedbackservice.summary.service.github;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 저장소 읽기 원천 (메타데이터 + 재귀 트리 + blob 내용)
+ * - github: GitHub API (REST / GraphQL 메타데이터)
+ * - local: 디스크의 git 저장소 (작업 디렉토리 또는 bare) - 네트워크 / 요청 한도 없이 분석 성능 측정, 사내 미러 분석
+ * - github.source.mode로 선택
+ */
+public interface RepositorySource extends RepositoryMetadataClient {
+
+    RepositoryTree fetchTree(String owner, String repo, String sha);
+
+    // blob 내용 (UTF-8)
+    Mono<String> fetchBlob(String owner, String repo, String sha);
+}
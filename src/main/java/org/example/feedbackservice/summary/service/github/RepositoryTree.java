@@ -0,0 +1,16 @@
+package org.example.feedbackservice.summary.service.github;
+
+import org.example.feedbackservice.summary.model.dto.GitTreeEntry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 재귀 트리 항목 스트림 + 일부만 조회되었는지 (스트림 완료 후 확정)
+ * - entries는 보관되지 않는 스트림 - 구독할 때마다 다시 조회하므로 한 번만 구독해 필요한 결과를 함께 누적
+ * - truncated는 entries가 완료된 뒤에 구독
+ */
+public record RepositoryTree(
+        Flux<GitTreeEntry> entries,
+        Mono<Boolean> truncated
+) {
+}
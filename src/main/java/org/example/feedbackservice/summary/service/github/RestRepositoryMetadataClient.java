@@ -0,0 +1,61 @@
+package org.example.feedbackservice.summary.service.github;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import org.example.feedbackservice.summary.client.GitHubClient;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * REST 메타데이터 조회 - 항목별 요청 (/repos 응답은 실행 단위 요청 메모로 공유)
+ */
+@Component
+@RequiredArgsConstructor
+public class RestRepositoryMetadataClient implements RepositoryMetadataClient {
+
+    private final GitHubClient gitHubClient;
+
+    @Override
+    public Mono<String> fetchHeadSha(String owner, String repo) {
+        return gitHubClient.get("/repos/{owner}/{repo}", owner, repo)
+                .flatMap(json -> gitHubClient.get("/repos/{owner}/{repo}/branches/{branch}",
+                        owner, repo, json.get("default_branch").asText()))
+                .map(branch -> branch.get("commit").get("sha").asText());
+    }
+
+    @Override
+    public Mono<Instant> fetchUpdatedAt(String owner, String repo) {
+        return gitHubClient.get("/repos/{owner}/{repo}", owner, repo)
+                .map(json -> Instant.parse(json.get("updated_at").asText()));
+    }
+
+    @Override
+    public Mono<String> fetchLanguages(String owner, String repo) {
+        return gitHubClient.get("/repos/{owner}/{repo}/languages", owner, repo)
+                .map(JsonNode::toPrettyString);
+    }
+
+    @Override
+    public Mono<List<String>> fetchCommitMessages(String owner, String repo) {
+        return gitHubClient.getArray("/repos/{owner}/{repo}/commits", null, new HashMap<>(), owner, repo)
+                .map(commit -> commit.get("commit").get("message").asText())
+                .collectList();
+    }
+
+    // README가 없으면(404) 빈 결과 - 조회 실패와 구분
+    @Override
+    public Mono<String> fetchReadme(String owner, String repo) {
+        return gitHubClient.get("/repos/{owner}/{repo}/readme", owner, repo)
+                .map(json -> json.get("content").asText())
+                .map(Base64.getMimeDecoder()::decode)
+                .map(bytes -> new String(bytes, StandardCharsets.UTF_8))
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty());
+    }
+}
@@ -0,0 +1,268 @@
+package org.example.feedbackservice.summary.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.example.feedbackservice.common.exception.FileDownloadException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 로컬 HttpServer를 스토리지 버킷 대신 사용
+class FileDownloadClientTest {
+
+    private static final Duration BLOCK_TIMEOUT = Duration.ofSeconds(10);
+    private static final int MAX_SIZE = 1024;
+
+    @TempDir
+    Path directory;
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private ExecutorService executor;
+    private HttpServer server;
+    private FileDownloadClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        executor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(executor);
+        server.start();
+
+        client = new FileDownloadClient(WebClient.builder());
+        ReflectionTestUtils.setField(client, "maxConnections", 4);
+        ReflectionTestUtils.setField(client, "connectTimeout", Duration.ofSeconds(2));
+        ReflectionTestUtils.setField(client, "readTimeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(client, "timeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(client, "maxSize", DataSize.ofBytes(MAX_SIZE));
+        ReflectionTestUtils.setField(client, "maxRetries", 2);
+        ReflectionTestUtils.setField(client, "directory", directory);
+        client.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.destroy();
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void downloadsBodyToTempFile() throws IOException {
+        byte[] body = bytes(MAX_SIZE);
+        handle("/file.pdf", exchange -> respond(exchange, 200, body, true));
+
+        Path file = client.download(url("/file.pdf")).block(BLOCK_TIMEOUT);
+
+        assertArrayEquals(body, Files.readAllBytes(file));
+        assertEquals(directory, file.getParent());
+    }
+
+    @Test
+    void rejectsContentLengthOverLimitBeforeReadingBody() throws IOException {
+        handle("/large", exchange -> respond(exchange, 200, bytes(MAX_SIZE * 4), true));
+
+        assertThrows(FileDownloadException.class, () -> client.download(url("/large")).block(BLOCK_TIMEOUT));
+        assertEquals(1, requests.get());
+        assertEmpty(directory);
+    }
+
+    // Content-Length 없이(chunked) 상한보다 큰 본문 - 받는 도중 중단
+    @Test
+    void stopsBodyOverLimitWithoutContentLength() throws IOException {
+        handle("/chunked", exchange -> respond(exchange, 200, bytes(MAX_SIZE * 64), false));
+
+        assertThrows(FileDownloadException.class, () -> client.download(url("/chunked")).block(BLOCK_TIMEOUT));
+        assertEmpty(directory);
+    }
+
+    @Test
+    void retriesServerErrors() throws IOException {
+        byte[] body = bytes(16);
+        handle("/flaky", exchange -> {
+            if (requests.get() < 3) {
+                respond(exchange, 503, new byte[0], true);
+            } else {
+                respond(exchange, 200, body, true);
+            }
+        });
+
+        Path file = client.download(url("/flaky")).block(BLOCK_TIMEOUT);
+
+        assertEquals(3, requests.get());
+        assertArrayEquals(body, Files.readAllBytes(file));
+    }
+
+    // 응답 없이 연결을 닫음 (IOException) - 재시도
+    @Test
+    void retriesConnectionErrors() throws IOException {
+        byte[] body = bytes(16);
+        handle("/reset", exchange -> {
+            if (requests.get() == 1) {
+                exchange.close();
+            } else {
+                respond(exchange, 200, body, true);
+            }
+        });
+
+        Path file = client.download(url("/reset")).block(BLOCK_TIMEOUT);
+
+        assertEquals(2, requests.get());
+        assertArrayEquals(body, Files.readAllBytes(file));
+    }
+
+    @Test
+    void doesNotRetryClientErrors() throws IOException {
+        handle("/missing", exchange -> respond(exchange, 404, new byte[0], true));
+
+        assertThrows(WebClientResponseException.NotFound.class,
+                () -> client.download(url("/missing")).block(BLOCK_TIMEOUT));
+        assertEquals(1, requests.get());
+        assertEmpty(directory);
+    }
+
+    @Test
+    void deletesTempFileAfterRetriesExhausted() throws IOException {
+        handle("/down", exchange -> respond(exchange, 500, new byte[0], true));
+
+        RuntimeException error = assertThrows(RuntimeException.class,
+                () -> client.download(url("/down")).block(BLOCK_TIMEOUT));
+        assertTrue(Exceptions.isRetryExhausted(error));
+        assertInstanceOf(WebClientResponseException.InternalServerError.class, error.getCause());
+        assertEquals(3, requests.get());
+        assertEmpty(directory);
+    }
+
+    @Test
+    void deletesTempFileOnTimeout() throws IOException {
+        ReflectionTestUtils.setField(client, "timeout", Duration.ofMillis(300));
+        CountDownLatch release = new CountDownLatch(1);
+        handle("/slow", exchange -> {
+            await(release);
+            respond(exchange, 200, bytes(16), true);
+        });
+
+        try {
+            RuntimeException error = assertThrows(RuntimeException.class,
+                    () -> client.download(url("/slow")).block(BLOCK_TIMEOUT));
+            assertInstanceOf(TimeoutException.class, Exceptions.unwrap(error));
+            assertEmpty(directory);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void deletesTempFileOnCancel() throws Exception {
+        CountDownLatch received = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        handle("/hang", exchange -> {
+            received.countDown();
+            await(release);
+            respond(exchange, 200, bytes(16), true);
+        });
+
+        Disposable subscription = client.download(url("/hang")).subscribe();
+        try {
+            assertTrue(received.await(5, TimeUnit.SECONDS));
+            assertEquals(1, fileCount(directory));
+
+            subscription.dispose();
+
+            assertEmpty(directory);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private void handle(String path, Handler handler) {
+        server.createContext(path, exchange -> {
+            requests.incrementAndGet();
+            try (exchange) {
+                handler.handle(exchange);
+            }
+        });
+    }
+
+    // fixedLength가 false면 chunked 전송 (Content-Length 없음)
+    private void respond(HttpExchange exchange, int status, byte[] body, boolean fixedLength) throws IOException {
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : fixedLength ? body.length : 0);
+        if (body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            } catch (IOException e) {
+                // 클라이언트가 상한 초과로 먼저 연결을 끊은 경우
+            }
+        }
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    private byte[] bytes(int size) {
+        byte[] bytes = new byte[size];
+        Arrays.fill(bytes, (byte) 'a');
+        return bytes;
+    }
+
+    // 삭제는 오류 / 취소 신호 직후 실행 - 잠시 기다리며 확인
+    private void assertEmpty(Path directory) throws IOException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (fileCount(directory) > 0 && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        assertEquals(0, fileCount(directory));
+    }
+
+    private long fileCount(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        void handle(HttpExchange exchange) throws IOException;
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.feedbackservice.summary.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.codec.DecodingException;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonStreamDecoderTest {
+
+    private static final String TREE = """
+            {"sha":"abc","url":"https://api.github.com/x","tree":[
+              {"path":"src/메인.java","type":"blob","sha":"1","size":120},
+              {"path":"src","type":"tree","sha":"2"},
+              {"path":"lib/a\\"b.js","type":"blob","sha":"3","size":7,"meta":{"tags":[1,2,{"x":[]}]}}
+            ],"truncated":true}
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 토큰 / UTF-8 문자 중간에서 잘린 조각 - 크기를 바꿔가며 모든 분할 위치 확인
+    @Test
+    void elementsSplitMidTokenAcrossChunks() {
+        byte[] body = TREE.getBytes(StandardCharsets.UTF_8);
+        for (int size = 1; size <= 16; size++) {
+            Map<String, JsonNode> fields = new ConcurrentHashMap<>();
+            List<JsonNode> nodes = decode(chunks(body, size), "tree", fields);
+
+            assertEquals(List.of("src/메인.java", "src", "lib/a\"b.js"), paths(nodes), "chunk size " + size);
+            assertEquals(3, nodes.get(2).get("meta").get("tags").size());
+            assertTrue(fields.get("truncated").asBoolean());
+        }
+    }
+
+    // 배열 뒤에 오는 최상위 값도 스트림 완료 후 fields에 기록
+    @Test
+    void scalarFieldsBeforeAndAfterArray() {
+        Map<String, JsonNode> fields = new ConcurrentHashMap<>();
+        decode(Flux.just(TREE.getBytes(StandardCharsets.UTF_8)), "tree", fields);
+
+        assertEquals("abc", fields.get("sha").asText());
+        assertEquals("https://api.github.com/x", fields.get("url").asText());
+        assertTrue(fields.get("truncated").asBoolean());
+        assertEquals(3, fields.size());
+    }
+
+    @Test
+    void topLevelArray() {
+        String body = """
+                [{"sha":"1","commit":{"message":"init"}}, 2, "text", [1, [2]], null]
+                """;
+        List<JsonNode> nodes = decode(chunks(body.getBytes(StandardCharsets.UTF_8), 5), null, new ConcurrentHashMap<>());
+
+        assertEquals(5, nodes.size());
+        assertEquals("init", nodes.get(0).get("commit").get("message").asText());
+        assertEquals(2, nodes.get(1).asInt());
+        assertEquals("text", nodes.get(2).asText());
+        assertEquals(2, nodes.get(3).size());
+        assertTrue(nodes.get(4).isNull());
+    }
+
+    // 이름이 다른 배열 / 중첩 객체 안의 같은 이름 배열은 발행하지 않음
+    @Test
+    void onlyTargetArrayIsEmitted() {
+        String body = """
+                {"other":[{"path":"x"}],"nested":{"tree":[{"path":"y"}]},"tree":[{"path":"z"}],"empty":[]}
+                """;
+        Map<String, JsonNode> fields = new ConcurrentHashMap<>();
+        List<JsonNode> nodes = decode(Flux.just(body.getBytes(StandardCharsets.UTF_8)), "tree", fields);
+
+        assertEquals(List.of("z"), paths(nodes));
+        assertTrue(fields.isEmpty());
+    }
+
+    @Test
+    void emptyChunksAreIgnored() {
+        byte[] body = "[1,2]".getBytes(StandardCharsets.UTF_8);
+        List<JsonNode> nodes = decode(Flux.just(new byte[0], Arrays.copyOf(body, 2), new byte[0],
+                Arrays.copyOfRange(body, 2, body.length)), null, new ConcurrentHashMap<>());
+
+        assertEquals(2, nodes.size());
+    }
+
+    @Test
+    void bodyEndingMidElementFails() {
+        byte[] body = TREE.substring(0, TREE.indexOf("\"type\":\"tree\"")).getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(DecodingException.class,
+                () -> decode(chunks(body, 8), "tree", new ConcurrentHashMap<>()));
+    }
+
+    @Test
+    void malformedJsonFails() {
+        byte[] body = "{\"tree\":[{\"path\":}]}".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(DecodingException.class,
+                () -> decode(Flux.just(body), "tree", new ConcurrentHashMap<>()));
+    }
+
+    private List<JsonNode> decode(Flux<byte[]> chunks, String arrayField, Map<String, JsonNode> fields) {
+        return JsonStreamDecoder.decode(chunks, objectMapper, arrayField, fields).collectList().block();
+    }
+
+    private Flux<byte[]> chunks(byte[] body, int size) {
+        List<byte[]> chunks = new ArrayList<>();
+        for (int offset = 0; offset < body.length; offset += size) {
+            chunks.add(Arrays.copyOfRange(body, offset, Math.min(body.length, offset + size)));
+        }
+        return Flux.fromIterable(chunks);
+    }
+
+    private List<String> paths(List<JsonNode> nodes) {
+        return nodes.stream().map(node -> node.get("path").asText()).toList();
+    }
+}
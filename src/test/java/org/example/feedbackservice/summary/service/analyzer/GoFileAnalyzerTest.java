@@ -0,0 +1,79 @@
+package org.example.feedbackservice.summary.service.analyzer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.example.feedbackservice.summary.service.analyzer.Outlines.declarations;
+import static org.example.feedbackservice.summary.service.analyzer.Outlines.imports;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GoFileAnalyzerTest {
+
+    private final GoFileAnalyzer analyzer = new GoFileAnalyzer();
+
+    @Test
+    void groupedImports() {
+        String source = """
+                package main
+
+                import (
+                	"fmt"
+                	str "strings"
+                	_ "net/http/pprof"
+                )
+
+                import "os"
+                """;
+        assertEquals(List.of("fmt", "strings", "net/http/pprof", "os"), imports(analyzer, source));
+    }
+
+    @Test
+    void typesFunctionsAndMethods() {
+        String source = """
+                package main
+
+                type Server struct {
+                	addr string
+                }
+
+                type handler interface {
+                	Serve() error
+                }
+
+                func (s *Server) Start() error {
+                	return nil
+                }
+
+                func Map[T, U any](values []T, f func(T) U) []U {
+                	return nil
+                }
+
+                func main() {
+                	run := func() {}
+                	run()
+                }
+                """;
+        assertEquals(List.of(
+                "STRUCT Server (exported)",
+                "INTERFACE handler",
+                "METHOD Start (exported)",
+                "FUNCTION Map (exported)",
+                "FUNCTION main"), declarations(analyzer, source));
+    }
+
+    @Test
+    void rawStringsDoNotDeclare() {
+        String source = """
+                package main
+
+                var query = `
+                func fake() {}
+                // not a comment
+                `
+
+                func real() {}
+                """;
+        assertEquals(List.of("FUNCTION real"), declarations(analyzer, source));
+    }
+}
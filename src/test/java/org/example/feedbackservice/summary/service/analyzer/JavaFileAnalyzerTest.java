@@ -0,0 +1,138 @@
+package org.example.feedbackservice.summary.service.analyzer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.example.feedbackservice.summary.service.analyzer.Outlines.declarations;
+import static org.example.feedbackservice.summary.service.analyzer.Outlines.imports;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JavaFileAnalyzerTest {
+
+    private final JavaFileAnalyzer analyzer = new JavaFileAnalyzer();
+
+    @Test
+    void annotationsWithArguments() {
+        String source = """
+                import java.util.List;
+                import static java.util.Map.entry;
+
+                @Service
+                @RequestMapping(value = "/x", method = {RequestMethod.GET})
+                public class Controller {
+                    @Autowired(required = false)
+                    private Dependency dependency;
+
+                    @GetMapping(path = "/a", produces = "text/plain")
+                    public String get(@PathVariable("id") String id) {
+                        return "";
+                    }
+
+                    @org.junit.jupiter.api.Disabled("reason")
+                    void disabled() {
+                    }
+                }
+                """;
+        assertEquals(List.of("java.util.List", "static java.util.Map.entry"), imports(analyzer, source));
+        assertEquals(List.of(
+                "CLASS Controller (public)",
+                "  METHOD get (public)",
+                "  METHOD disabled"), declarations(analyzer, source));
+    }
+
+    @Test
+    void genericMethods() {
+        String source = """
+                public class Generic<T> {
+                    public <U extends Comparable<U>> U max(List<U> values) {
+                        return null;
+                    }
+
+                    public static <K, V> Map<K, List<V>> group() {
+                        return Map.of();
+                    }
+
+                    Generic(T value) {
+                    }
+                }
+                """;
+        assertEquals(List.of(
+                "CLASS Generic (public)",
+                "  METHOD max (public)",
+                "  METHOD group (public)",
+                "  CONSTRUCTOR Generic"), declarations(analyzer, source));
+    }
+
+    @Test
+    void enumBodies() {
+        String source = """
+                enum Color {
+                    RED(1), GREEN(2) {
+                        @Override
+                        int value() {
+                            return 3;
+                        }
+                    };
+
+                    private final int value;
+
+                    Color(int value) {
+                        this.value = value;
+                    }
+
+                    public int value() {
+                        return value;
+                    }
+                }
+                """;
+        assertEquals(List.of(
+                "ENUM Color",
+                "  CONSTRUCTOR Color",
+                "  METHOD value (public)"), declarations(analyzer, source));
+    }
+
+    @Test
+    void nestedTypes() {
+        String source = """
+                public class Outer {
+                    private static class Inner {
+                        void inner() {
+                        }
+                    }
+
+                    public record Point(int x, int y) {
+                    }
+
+                    interface Callback {
+                        void call();
+                    }
+                }
+                """;
+        assertEquals(List.of(
+                "CLASS Outer (public)",
+                "  CLASS Inner (private)",
+                "    METHOD inner",
+                "  RECORD Point (public)",
+                "  INTERFACE Callback",
+                "    METHOD call"), declarations(analyzer, source));
+    }
+
+    @Test
+    void commentsAndStringsDoNotDeclare() {
+        String source = """
+                class A {
+                    String marker = "/* not a comment";
+                    String text = \"""
+                            class Fake { void fake() {} }
+                            \""";
+                    // void commented() {}
+                    /* void blockCommented() {} */
+                    void real() {
+                    }
+                }
+                /* class Unterminated { void never() {} }
+                """;
+        assertEquals(List.of("CLASS A", "  METHOD real"), declarations(analyzer, source));
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.feedbackservice.summary.service.analyzer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.example.feedbackservice.summary.service.analyzer.Outlines.declarations;
+import static org.example.feedbackservice.summary.service.analyzer.Outlines.imports;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JsFileAnalyzerTest {
+
+    private final JsFileAnalyzer analyzer = new JsFileAnalyzer();
+
+    @Test
+    void regexLiteralVersusDivision() {
+        String source = """
+                const pattern = /\\/*[a-z]{"}/g;
+                function half(x) {
+                  return x / 2 / 3;
+                }
+                const ratio = (a, b) => a / b;
+                const re = /`/;
+                function last() {}
+                """;
+        assertEquals(List.of("FUNCTION half", "FUNCTION ratio", "FUNCTION last"), declarations(analyzer, source));
+    }
+
+    @Test
+    void templateLiteralsWithExpressions() {
+        String source = """
+                const html = `<div>${ items.map(item => `<li>${item}</li>`).join('') } function fake() {}</div>`;
+                function render() {}
+                """;
+        assertEquals(List.of("FUNCTION render"), declarations(analyzer, source));
+    }
+
+    @Test
+    void classMembers() {
+        String source = """
+                import React from 'react';
+                import { useState } from "react";
+                const path = require('path');
+
+                export default class Counter extends React.Component {
+                  constructor(props) {
+                    super(props);
+                  }
+
+                  handleClick = () => {
+                    this.setState({ count: 1 });
+                  };
+
+                  render() {
+                    return null;
+                  }
+                }
+
+                export const load = async (id: string): Promise<void> => {};
+                """;
+        assertEquals(List.of("react", "react", "path"), imports(analyzer, source));
+        assertEquals(List.of(
+                "CLASS Counter (export)",
+                "  CONSTRUCTOR constructor",
+                "  METHOD handleClick",
+                "  METHOD render",
+                "FUNCTION load (export)"), declarations(analyzer, source));
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.feedbackservice.summary.service.analyzer;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 비교 기준 - 스캐너 도입 전 정규식 분석기 (호출마다 Pattern.compile, 파일 2회 탐색)
+ * - LegacyRegexParityTest의 결과 비교 기준 + SourceAnalyzerBenchmark의 처리량 비교 대상 (jmh includeTests)
+ * - JavaFileAnalyzer의 System.out 출력은 측정에서 제외
+ */
+final class LegacyRegexAnalyzers {
+
+    private LegacyRegexAnalyzers() {
+    }
+
+    static String analyzeJava(String content) {
+        StringBuilder result = new StringBuilder();
+        Matcher classMatcher = Pattern.compile("class\\s+(\\w+)").matcher(content);
+        while (classMatcher.find()) {
+            result.append("클래스: ").append(classMatcher.group(1)).append("\n");
+        }
+
+        Matcher methodMatcher = Pattern.compile("(public|private|protectd)?\\s+\\w+\\s+(\\w+)\\(").matcher(content);
+        while (methodMatcher.find()) {
+            result.append("메서드: ").append(methodMatcher.group(2)).append("\n");
+        }
+        return result.toString();
+    }
+
+    static String analyzePython(String content) {
+        StringBuilder result = new StringBuilder();
+        Matcher classMatcher = Pattern.compile("class\\s+(\\w+)").matcher(content);
+        while (classMatcher.find()) {
+            result.append("클래스: ").append(classMatcher.group(1)).append("\n");
+        }
+
+        Matcher methodMatcher = Pattern.compile("def\\s+(\\w+)\\(").matcher(content);
+        while (methodMatcher.find()) {
+            result.append("메서드: ").append(methodMatcher.group(1)).append("\n");
+        }
+        return result.toString();
+    }
+
+    static String analyzeJs(String content) {
+        StringBuilder result = new StringBuilder();
+        Matcher classMatcher = Pattern.compile("class\\s+(\\w+)").matcher(content);
+        while (classMatcher.find()) {
+            result.append("클래스: ").append(classMatcher.group(1)).append("\n");
+        }
+
+        Matcher functionMatcher = Pattern.compile("function\\s+(\\w+)\\(").matcher(content);
+        while (functionMatcher.find()) {
+            result.append("함수: ").append(functionMatcher.group(1)).append("\n");
+        }
+        return result.toString();
+    }
+}
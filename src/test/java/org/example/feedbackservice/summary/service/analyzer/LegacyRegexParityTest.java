@@ -0,0 +1,113 @@
+package org.example.feedbackservice.summary.service.analyzer;
+
+import org.example.feedbackservice.summary.service.analyzer.SourceOutline.Kind;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 스캐너 기반 분석기와 이전 정규식 분석기(LegacyRegexAnalyzers)의 결과 비교
+ * - 정규식이 오탐하지 않는 대표 입력에서 클래스 / 메서드(함수) 이름 집합이 같아야 함
+ * - 정규식은 주석 / 문자열 / 호출식(new X(...))과 제네릭 반환 타입을 구분하지 못하므로 그런 입력은 제외
+ */
+class LegacyRegexParityTest {
+
+    private static final String JAVA = """
+            package sample;
+
+            public class OrderService {
+                private final OrderRepository repository;
+
+                public OrderService(OrderRepository repository) {
+                    this.repository = repository;
+                }
+
+                public int total() {
+                    return repository.count();
+                }
+
+                private boolean validate(Order order) {
+                    return order != null;
+                }
+
+                static class Summary {
+                    int count() {
+                        return 0;
+                    }
+                }
+            }
+            """;
+
+    private static final String PYTHON = """
+            import os
+
+            class Repository:
+                def __init__(self, path):
+                    self.path = path
+
+                def load(self):
+                    return os.listdir(self.path)
+
+            def main():
+                Repository('.').load()
+            """;
+
+    private static final String JS = """
+            import { api } from './api';
+
+            class Store {
+              constructor() {
+                this.items = [];
+              }
+            }
+
+            function fetchItems(store) {
+              return api.get('/items');
+            }
+
+            async function saveItem(item) {
+              await api.post('/items', item);
+            }
+            """;
+
+    @Test
+    void javaMatchesLegacy() {
+        assertEquals(legacy(LegacyRegexAnalyzers.analyzeJava(JAVA)),
+                scanner(new JavaFileAnalyzer().outline(JAVA), "메서드"));
+    }
+
+    @Test
+    void pythonMatchesLegacy() {
+        assertEquals(legacy(LegacyRegexAnalyzers.analyzePython(PYTHON)),
+                scanner(new PythonFileAnalyzer().outline(PYTHON), "메서드"));
+    }
+
+    // 정규식은 function 키워드 선언만 인식 - 클래스 메서드 / 생성자는 비교에서 제외
+    @Test
+    void jsMatchesLegacy() {
+        SourceOutline outline = new JsFileAnalyzer().outline(JS);
+        outline.getDeclarations().removeIf(declaration ->
+                declaration.kind() == Kind.METHOD || declaration.kind() == Kind.CONSTRUCTOR);
+        assertEquals(legacy(LegacyRegexAnalyzers.analyzeJs(JS)), scanner(outline, "함수"));
+    }
+
+    // "클래스: A" 형식의 줄 집합
+    private Set<String> legacy(String result) {
+        return Arrays.stream(result.split("\n"))
+                .filter(line -> !line.isBlank())
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    // 클래스는 "클래스", 메서드 / 생성자 / 함수는 정규식 분석기와 같은 이름표로 변환
+    private Set<String> scanner(SourceOutline outline, String functionLabel) {
+        return outline.getDeclarations().stream()
+                .map(declaration -> (declaration.kind() == Kind.CLASS ? "클래스" : functionLabel)
+                        + ": " + declaration.name())
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+}
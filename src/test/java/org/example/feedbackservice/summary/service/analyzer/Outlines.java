@@ -0,0 +1,21 @@
+package org.example.feedbackservice.summary.service.analyzer;
+
+import java.util.List;
+
+// 테스트용 선언 목록 표기 - "  METHOD name (visibility)" (depth만큼 들여쓰기)
+final class Outlines {
+
+    private Outlines() {
+    }
+
+    static List<String> declarations(SourceFileAnalyzer analyzer, String source) {
+        return analyzer.outline(source).getDeclarations().stream()
+                .map(declaration -> "  ".repeat(declaration.depth()) + declaration.kind() + " " + declaration.name()
+                        + (declaration.visibility() != null ? " (" + declaration.visibility() + ")" : ""))
+                .toList();
+    }
+
+    static List<String> imports(SourceFileAnalyzer analyzer, String source) {
+        return analyzer.outline(source).getImports();
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.feedbackservice.summary.service.analyzer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.example.feedbackservice.summary.service.analyzer.Outlines.declarations;
+import static org.example.feedbackservice.summary.service.analyzer.Outlines.imports;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PythonFileAnalyzerTest {
+
+    private final PythonFileAnalyzer analyzer = new PythonFileAnalyzer();
+
+    @Test
+    void indentationDedent() {
+        String source = """
+                class Service:
+                    def __init__(self):
+                        def helper():
+                            pass
+                        self.helper = helper
+
+                    async def fetch(self):
+                        pass
+
+                    def _private(self):
+                        pass
+
+                def top_level():
+                    pass
+
+                class Other:
+                    class Inner:
+                        def inner(self):
+                            pass
+                    def outer(self):
+                        pass
+                """;
+        assertEquals(List.of(
+                "CLASS Service",
+                "  CONSTRUCTOR __init__",
+                "  METHOD fetch",
+                "  METHOD _private (private)",
+                "FUNCTION top_level",
+                "CLASS Other",
+                "  CLASS Inner",
+                "    METHOD inner",
+                "  METHOD outer"), declarations(analyzer, source));
+    }
+
+    @Test
+    void tripleQuotedStringsAndHashComments() {
+        String source = """
+                def documented():
+                    \"""
+                    def fake():
+                    \"""
+                    text = '# not a comment'
+                    return text
+
+                # def commented():
+                QUERY = '''
+                class Fake:
+                '''
+
+                def after():
+                    pass
+                """;
+        assertEquals(List.of("FUNCTION documented", "FUNCTION after"), declarations(analyzer, source));
+    }
+
+    @Test
+    void multiLineBracketsDoNotDedent() {
+        String source = """
+                class Config:
+                    values = [
+                1, 2,
+                    ]
+                    def load(self):
+                        pass
+                """;
+        assertEquals(List.of("CLASS Config", "  METHOD load"), declarations(analyzer, source));
+    }
+
+    @Test
+    void importStatements() {
+        String source = """
+                import os, sys as system
+                from .models import User
+                from collections import (
+                    OrderedDict,
+                )
+                """;
+        assertEquals(List.of("os", "sys", ".models", "collections"), imports(analyzer, source));
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.feedbackservice.summary.service.analyzer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.example.feedbackservice.summary.service.analyzer.Outlines.declarations;
+import static org.example.feedbackservice.summary.service.analyzer.Outlines.imports;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RustFileAnalyzerTest {
+
+    private final RustFileAnalyzer analyzer = new RustFileAnalyzer();
+
+    @Test
+    void lifetimesVersusCharLiterals() {
+        String source = """
+                use std::fmt;
+
+                pub struct Wrapper<'a> {
+                    text: &'a str,
+                }
+
+                impl<'a> fmt::Display for Wrapper<'a> {
+                    fn fmt(&self, f: &mut fmt::Formatter<'_>) -> fmt::Result {
+                        let open = '{';
+                        let quote = '\\'';
+                        Ok(())
+                    }
+                }
+
+                fn first<'b>(text: &'b str) -> char {
+                    '}'
+                }
+                """;
+        assertEquals(List.of("std::fmt"), imports(analyzer, source));
+        assertEquals(List.of(
+                "STRUCT Wrapper (pub)",
+                "IMPL Display for Wrapper",
+                "  METHOD fmt",
+                "FUNCTION first"), declarations(analyzer, source));
+    }
+
+    @Test
+    void nestedBlockComments() {
+        String source = """
+                /* outer /* inner */ fn hidden() {} */
+                fn shown() {}
+                """;
+        assertEquals(List.of("FUNCTION shown"), declarations(analyzer, source));
+    }
+
+    @Test
+    void modulesAndTraits() {
+        String source = """
+                mod storage {
+                    pub trait Store {
+                        fn get(&self, key: &str) -> Option<String>;
+                    }
+
+                    pub enum Backend {
+                        Memory,
+                        Disk { path: String },
+                    }
+
+                    pub(crate) fn open() -> Backend {
+                        Backend::Memory
+                    }
+                }
+                """;
+        assertEquals(List.of(
+                "TRAIT Store (pub)",
+                "  METHOD get",
+                "ENUM Backend (pub)",
+                "FUNCTION open (pub)"), declarations(analyzer, source));
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.feedbackservice.summary.service.analyzer;
+
+import org.example.feedbackservice.summary.service.analyzer.SourceScanner.Syntax;
+import org.example.feedbackservice.summary.service.analyzer.SourceScanner.Token;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SourceScannerTest {
+
+    @Test
+    void blockCommentsDoNotNestInCLikeSyntax() {
+        assertEquals(List.of("a", "b", "*", "/", "c"), tokens("a /* x /* y */ b */ c", Syntax.C_LIKE));
+    }
+
+    @Test
+    void nestedBlockComments() {
+        assertEquals(List.of("a", "c"), tokens("a /* x /* y */ b */ c", Syntax.RUST));
+        assertEquals(List.of("a", "c"), tokens("a /* x /* y */ b */ c", Syntax.C_LIKE_NESTED_COMMENTS));
+    }
+
+    @Test
+    void unterminatedBlockCommentRunsToEndOfFile() {
+        assertEquals(List.of("a"), tokens("a /* b\nc", Syntax.C_LIKE));
+        assertEquals(List.of("a"), tokens("a /* x /* y */ b", Syntax.RUST));
+    }
+
+    @Test
+    void blockCommentKeepsLineStart() {
+        SourceScanner scanner = new SourceScanner("a /* x\n y */ b\n  c", Syntax.C_LIKE);
+        scanner.next();
+        scanner.next();
+        assertEquals("b", scanner.text());
+        assertEquals(true, scanner.firstOnLine());
+        scanner.next();
+        assertEquals(2, scanner.column());
+    }
+
+    @Test
+    void stringsContainingCommentMarkers() {
+        assertEquals(List.of("s", "=", "\"/* x */ // y\"", ";", "t"),
+                tokens("s = \"/* x */ // y\"; t", Syntax.C_LIKE));
+        assertEquals(List.of("s", "=", "\"# x\"", "t"), tokens("s = '# x' # comment\nt", Syntax.PYTHON));
+        assertEquals(List.of("s", "=", "\"a \\\" // b\"", "c"), tokens("s = \"a \\\" // b\" c", Syntax.C_LIKE));
+    }
+
+    @Test
+    void javaTextBlock() {
+        String source = "String s = \"\"\"\n  // not a comment\n  \"quoted\" /* x */\n  \"\"\"; next";
+        assertEquals(List.of("String", "s", "=", "\"\n  // not a comment\n  \"quoted\" /* x */\n  \"", ";", "next"),
+                tokens(source, Syntax.C_LIKE));
+    }
+
+    @Test
+    void pythonTripleQuotedStrings() {
+        assertEquals(List.of("x", "=", "\"a # b\nc\"", "y"), tokens("x = '''a # b\nc''' # d\ny", Syntax.PYTHON));
+        assertEquals(List.of("x", "=", "\"it's\"", "y"), tokens("x = \"\"\"it's\"\"\"\ny", Syntax.PYTHON));
+    }
+
+    @Test
+    void regexLiteralVersusDivision() {
+        assertEquals(List.of("a", "=", "b", "/", "c", "/", "d", ";"), tokens("a = b / c / d;", Syntax.JAVASCRIPT));
+        assertEquals(List.of("r", "=", "\"/[/*]\\/x/g\"", ";", "e"), tokens("r = /[/*]\\/x/g; e", Syntax.JAVASCRIPT));
+        assertEquals(List.of("return", "\"/a/\"", ".", "test", "(", "s", ")"),
+                tokens("return /a/.test(s)", Syntax.JAVASCRIPT));
+        assertEquals(List.of("(", "a", ")", "/", "2", "/", "b"), tokens("(a) / 2 / b", Syntax.JAVASCRIPT));
+    }
+
+    @Test
+    void templateLiteralWithNestedExpressions() {
+        String source = "s = `a ${ f({ b: `c ${d}` }) } // not a comment`; e";
+        assertEquals(List.of("s", "=", "\"a ${ f({ b: `c ${d}` }) } // not a comment\"", ";", "e"),
+                tokens(source, Syntax.JAVASCRIPT));
+    }
+
+    @Test
+    void rustLifetimesVersusCharLiterals() {
+        assertEquals(List.of("f", "<", "'", "a", ">", "&", "'", "a", "str"),
+                tokens("f<'a> &'a str", Syntax.RUST));
+        assertEquals(List.of("c", "=", "\"{\"", ";", "d", "=", "\"\\'\"", ";", "e"),
+                tokens("c = '{'; d = '\\''; e", Syntax.RUST));
+    }
+
+    // 문자열 토큰은 내용을 "..."로 감싸 구분
+    private List<String> tokens(String source, Syntax syntax) {
+        SourceScanner scanner = new SourceScanner(source, syntax);
+        List<String> tokens = new ArrayList<>();
+        for (Token token = scanner.next(); token != Token.EOF; token = scanner.next()) {
+            tokens.add(token == Token.STRING ? "\"" + scanner.text() + "\"" : scanner.text());
+        }
+        return tokens;
+    }
+}